@@ -0,0 +1,32 @@
+package com.example.finlight.global.auth.jwt;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// JwtUtil 발급 경로 벤치마크 - 검증 대상 토큰 종류(@Param)와 무관하므로 JwtUtilBenchmark와 분리
+@State(Scope.Benchmark)
+public class JwtIssueBenchmark {
+
+    private static final String SECRET = "mySecretKeyForTestingJwtTokenGenerationAndValidation12345678901234567890";
+
+    private JwtUtil jwtUtil;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, Duration.ofMinutes(30), Duration.ofDays(14));
+        userId = UUID.randomUUID();
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createAccessToken(userId);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtUtil.createRefreshToken(userId);
+    }
+}
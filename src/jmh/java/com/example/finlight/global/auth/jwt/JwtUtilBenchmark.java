@@ -0,0 +1,74 @@
+package com.example.finlight.global.auth.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+// JwtUtil 검증 경로 벤치마크 (발급은 토큰 종류와 무관하므로 JwtIssueBenchmark에서 한 번만 측정)
+// 인증 필터의 핫패스를 건드리기 전/후 비교용 기준선 (처리량, 평균 시간, gc 프로파일러로 할당률까지)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "mySecretKeyForTestingJwtTokenGenerationAndValidation12345678901234567890";
+
+    // 검증 대상 토큰 종류
+    @Param({"valid", "expired", "tampered", "malformed"})
+    public String tokenKind;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, Duration.ofMinutes(30), Duration.ofDays(14));
+        String valid = jwtUtil.createAccessToken(UUID.randomUUID());
+
+        token = switch (tokenKind) {
+            case "valid" -> valid;
+            case "expired" -> expiredToken();
+            case "tampered" -> tamper(valid);
+            case "malformed" -> "not-a-jwt." + valid.substring(valid.indexOf('.') + 1, valid.lastIndexOf('.'));
+            default -> throw new IllegalArgumentException(tokenKind);
+        };
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtUtil.isTokenValid(token);
+    }
+
+    // 유효하지 않은 토큰은 예외 경로까지 포함해서 측정
+    @Benchmark
+    public void extractUserId(Blackhole blackhole) {
+        try {
+            blackhole.consume(jwtUtil.extractUserId(token));
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private static String expiredToken() {
+        Instant past = Instant.now().minus(Duration.ofHours(1));
+        return Jwts.builder()
+                .setSubject(UUID.randomUUID().toString())
+                .setIssuedAt(Date.from(past))
+                .setExpiration(Date.from(past.plus(Duration.ofMinutes(30))))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    // 서명 첫 글자를 바꿔 서명 불일치 토큰 생성 (마지막 글자는 패딩 비트만 바뀔 수 있어서 피함)
+    private static String tamper(String token) {
+        int at = token.lastIndexOf('.') + 1;
+        char c = token.charAt(at);
+        return token.substring(0, at) + (c == 'A' ? 'B' : 'A') + token.substring(at + 1);
+    }
+}
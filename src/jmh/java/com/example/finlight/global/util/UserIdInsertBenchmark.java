@@ -0,0 +1,100 @@
+package com.example.finlight.global.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 랜덤 UUID(v4) vs 시간 순 UUID(v7) PK 대량 INSERT 비교 (PostgreSQL 필요)
+// 매 측정마다 빈 테이블에 rows개를 배치 INSERT 하고, 걸린 시간과 PK 인덱스 크기를 출력한다.
+// 수백만 건을 한 번에 넣는 측정이라 공통 jmh 설정(thrpt/avgt) 대신 single-shot 옵션으로 직접 실행:
+//   ./gradlew jmhJar
+//   java -jar build/libs/finlight-0.0.1-SNAPSHOT-jmh.jar UserIdInsertBenchmark -bm ss -wi 1 -i 3 -f 1 -p rows=3000000 \
+//        -jvmArgs "-Dbench.jdbc.url=jdbc:postgresql://localhost:5432/finlight -Dbench.jdbc.user=postgres -Dbench.jdbc.password=1234"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UserIdInsertBenchmark {
+
+    private static final String TABLE = "bench_user_ids";
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"random", "v7"})
+    public String idKind;
+
+    @Param({"1000000", "3000000"})
+    public int rows;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/finlight") + "?reWriteBatchedInserts=true",
+                System.getProperty("bench.jdbc.user", "postgres"),
+                System.getProperty("bench.jdbc.password", "1234"));
+        connection.setAutoCommit(false);
+    }
+
+    // users 테이블과 같은 모양(uuid PK + username)으로 매번 새로 만듦
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id uuid PRIMARY KEY, username varchar(300) NOT NULL)");
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        boolean ordered = idKind.equals("v7");
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, username) VALUES (?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setObject(1, ordered ? UuidV7.next() : UUID.randomUUID());
+                insert.setString(2, "local_user" + i + "@example.com");
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return rows;
+    }
+
+    // 인덱스 크기 비교 - 랜덤 UUID는 페이지 분할로 잎 페이지가 반쯤 빈 채 남아 같은 행 수에도 인덱스가 더 커진다.
+    @TearDown(Level.Iteration)
+    public void reportIndexSize() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT pg_relation_size('" + TABLE + "_pkey'), pg_relation_size('" + TABLE + "')")) {
+            result.next();
+            long indexBytes = result.getLong(1);
+            long tableBytes = result.getLong(2);
+            System.out.printf("%n[%s, rows=%d] pk index %.1f MB (%.1f B/row), table %.1f MB%n",
+                    idKind, rows, indexBytes / 1048576.0, (double) indexBytes / rows, tableBytes / 1048576.0);
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+}
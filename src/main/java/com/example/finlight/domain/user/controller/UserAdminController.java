@@ -0,0 +1,47 @@
+package com.example.finlight.domain.user.controller;
+
+import com.example.finlight.domain.user.dto.res.UserPageDTO;
+import com.example.finlight.domain.user.service.UserAdminService;
+import com.example.finlight.domain.user.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+// 관리자 전용 (/api/admin/** 은 SecurityConfig에서 ADMIN 역할만 허용)
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class UserAdminController {
+
+    private final UserImportService userImportService;
+    private final UserAdminService userAdminService;
+
+    // 가입순 목록 - 다음 페이지는 응답의 nextCursor를 cursor로 넘김, provider는 username 접두사(local, google, kakao)
+    @GetMapping
+    @Operation(summary = "사용자 목록 (keyset 페이지네이션)", security = @SecurityRequirement(name = "JWT"))
+    public ResponseEntity<UserPageDTO> listUsers(@RequestParam(required = false) String provider,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(userAdminService.listUsers(provider, cursor, size));
+    }
+
+    // 전체 내보내기 - 한 줄에 한 명씩 NDJSON으로 스트리밍
+    @GetMapping("/export")
+    @Operation(summary = "사용자 내보내기 (NDJSON)", security = @SecurityRequirement(name = "JWT"))
+    public void exportUsers(@RequestParam(required = false) String provider, HttpServletResponse response) throws IOException {
+        userAdminService.exportUsers(provider, response);
+    }
+
+    // 본문을 @RequestBody로 한 번에 받지 않고 InputStream 그대로 넘겨 스트리밍 처리, 응답은 진행 상황 NDJSON
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "사용자 일괄 등록 (CSV/NDJSON)", security = @SecurityRequirement(name = "JWT"))
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        userImportService.importUsers(request.getInputStream(), request.getContentType(), response);
+    }
+}
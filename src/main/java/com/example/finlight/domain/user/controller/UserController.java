@@ -1,6 +1,7 @@
 package com.example.finlight.domain.user.controller;
 
 import com.example.finlight.domain.user.dto.req.UserSignupDTO;
+import com.example.finlight.domain.user.dto.res.AvailabilityResponseDTO;
 import com.example.finlight.domain.user.dto.res.UserResponseDTO;
 import com.example.finlight.domain.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,6 +32,13 @@ public class UserController {
                 .body(res);
     }
 
+    // 가입 폼 실시간 중복 확인 (인증 불필요)
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponseDTO> availability(@RequestParam(required = false) String nickname,
+                                                                @RequestParam(required = false) String email) {
+        return ResponseEntity.ok(userService.checkAvailability(nickname, email));
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<?> reissueToken(@CookieValue(name = "refreshToken", required = false) String refreshToken, HttpServletResponse response) {
         return userService.reissueToken(refreshToken, response);
@@ -39,13 +47,14 @@ public class UserController {
     @PostMapping("/logout")
     @Operation(summary = "로그아웃", security = @SecurityRequirement(name = "JWT"))
     public ResponseEntity<?> logout(@Parameter(hidden = true) @AuthenticationPrincipal UUID userId,
+                                    @CookieValue(name = "refreshToken", required = false) String refreshToken,
                                     HttpServletResponse response) {
-        return userService.logout(userId, response);
+        return userService.logout(userId, refreshToken, response);
     }
 
     @GetMapping("/me")
     @Operation(summary = "내 정보", security = @SecurityRequirement(name = "JWT"))
-    public ResponseEntity<?> me(@Parameter(hidden = true) @AuthenticationPrincipal UUID userId) {
+    public ResponseEntity<UserResponseDTO> me(@Parameter(hidden = true) @AuthenticationPrincipal UUID userId) {
         return userService.me(userId);
     }
 
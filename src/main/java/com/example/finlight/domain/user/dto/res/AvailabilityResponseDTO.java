@@ -0,0 +1,8 @@
+package com.example.finlight.domain.user.dto.res;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 가입 폼 중복 확인 결과 - 요청에 없던 항목은 응답에서 빠짐
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AvailabilityResponseDTO(Boolean nicknameAvailable, Boolean emailAvailable) {
+}
@@ -0,0 +1,24 @@
+package com.example.finlight.domain.user.dto.res;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// 일괄 등록 진행 상황 (NDJSON 한 줄)
+//   error    : 등록하지 못한 행 (line, email, message)
+//   progress : 배치 하나를 처리할 때마다 누적 건수
+//   done     : 마지막 한 줄, 최종 누적 건수
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportEventDTO(String type, Long line, String email, String message,
+                                 Long processed, Long imported, Long failed) {
+
+    public static UserImportEventDTO error(long line, String email, String message) {
+        return new UserImportEventDTO("error", line, email, message, null, null, null);
+    }
+
+    public static UserImportEventDTO progress(long processed, long imported, long failed) {
+        return new UserImportEventDTO("progress", null, null, null, processed, imported, failed);
+    }
+
+    public static UserImportEventDTO done(long processed, long imported, long failed) {
+        return new UserImportEventDTO("done", null, null, null, processed, imported, failed);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.finlight.domain.user.dto.res;
+
+import java.util.List;
+
+// nextCursor가 null이면 마지막 페이지
+public record UserPageDTO(List<UserSummaryDTO> users, String nextCursor) {
+}
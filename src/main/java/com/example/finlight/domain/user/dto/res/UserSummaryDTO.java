@@ -0,0 +1,10 @@
+package com.example.finlight.domain.user.dto.res;
+
+import com.example.finlight.domain.user.entity.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 관리자 사용자 목록/내보내기 한 행 (비밀번호 해시는 조회하지 않음)
+public record UserSummaryDTO(UUID id, String email, String nickname, String username, Role role, LocalDateTime createdAt) {
+}
@@ -2,11 +2,40 @@ package com.example.finlight.domain.user.entity;
 
 import org.springframework.security.core.GrantedAuthority;
 
+import java.util.List;
+
 public enum Role implements GrantedAuthority {
-    USER,
-    ADMIN;
+    USER('U'),
+    ADMIN('A');
+
+    private final char code;                                  // JWT role claim에 담는 한 글자 코드
+    private final String authority = "ROLE_" + name();        // getAuthority() 호출마다 문자열을 만들지 않도록 미리 생성
+    private final List<Role> authorities = List.of(this);     // 권한 컬렉션도 역할별로 하나만 만들어 공유
+
+    Role(char code) {
+        this.code = code;
+    }
 
     @Override public String getAuthority() {
-        return "ROLE_" + name();
+        return authority;
+    }
+
+    public char getCode() {
+        return code;
+    }
+
+    // 인증 객체에 그대로 넘기는 불변 권한 목록
+    public List<Role> authorities() {
+        return authorities;
+    }
+
+    // 알 수 없는 코드면 null
+    public static Role fromCode(char code) {
+        for (Role role : values()) {
+            if (role.code == code) {
+                return role;
+            }
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
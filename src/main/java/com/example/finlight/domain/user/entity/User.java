@@ -1,10 +1,15 @@
 package com.example.finlight.domain.user.entity;
 
+import com.example.finlight.global.jpa.UuidV7Id;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,9 +18,16 @@ import java.util.UUID;
 @Table(name = "users") // 테이블명 단수로 통일 -> 하려고 했으나!! PostgreSQL에 user는 키워드라 구문 오류 뜸. users로 변경.
 @Getter   // 읽기 전용 getter만 제공 (캡슐화 원칙)
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA 요구사항, 외부 생성 방지
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")   // 2차 캐시 (CacheConfig) - 수정은 커밋 시 캐시에도 반영됨
+@NaturalIdCache(region = "users-by-username")   // username -> id 매핑도 캐시
 public class User {
+
+    // 소셜 회원용 비밀번호 자리 - 어떤 인코더 형식({bcrypt} 등)과도 맞지 않아 비밀번호 로그인이 절대 성공하지 않음 (해싱 비용도 없음)
+    public static final String UNUSABLE_PASSWORD = "{unusable}";
+
     @Id
-    @GeneratedValue
+    @UuidV7Id   // 시간 순 UUID - 랜덤 UUID와 달리 PK 인덱스 끝에 순차적으로 삽입됨
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
@@ -28,6 +40,7 @@ public class User {
     @Column(name = "password", nullable = false, length = 225)
     private String password;
 
+    @NaturalId   // 가입 후 바뀌지 않는 로그인 키
     @Column(name = "username", nullable = false, unique = true, length = 300)
     private String username;  // ex: "google_123456", "local_abc@gmail.com"
 
@@ -52,14 +65,24 @@ public class User {
         return user;
     }
 
-    public static User createOAuthUser(String email, String nickname, String username, String password) {
-        return createUser(email, nickname, password, username, Role.USER);
+    // 소셜 가입은 upsert(UserRepository.insertIfAbsent)로 엔티티 저장 없이 INSERT하므로 id/생성 시각을 미리 채워 둔다
+    public static User createOAuthUser(UUID id, String email, String nickname, String username) {
+        User user = createUser(email, nickname, UNUSABLE_PASSWORD, username, Role.USER);
+        user.id = id;
+        user.createdAt = LocalDateTime.now();
+        return user;
     }
 
+    // READ_WRITE 캐시라 커밋 시점에 캐시 항목이 잠겼다가 새 값으로 교체됨 (다른 트랜잭션이 옛 닉네임을 보지 않음)
     public void changeNickname(String newNickname) {
         this.nickname = newNickname;
     }
 
+    // 로그인 시 더 강한 설정으로 다시 해싱한 값으로 교체 (PrincipalDetailsService.updatePassword)
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     // 소셜 로그인 사용자면 비밀번호 변경 기능 숨기기 등
     public boolean isOAuthUser() {
         return !username.startsWith("local_");
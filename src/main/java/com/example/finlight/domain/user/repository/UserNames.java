@@ -0,0 +1,5 @@
+package com.example.finlight.domain.user.repository;
+
+// 중복 확인용 Bloom filter를 채울 때 엔티티 전체 대신 읽는 두 컬럼
+public record UserNames(String username, String nickname) {
+}
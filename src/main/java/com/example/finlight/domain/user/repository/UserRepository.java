@@ -1,12 +1,71 @@
 package com.example.finlight.domain.user.repository;
 
+import com.example.finlight.domain.user.dto.res.UserResponseDTO;
+import com.example.finlight.domain.user.dto.res.UserSummaryDTO;
+import com.example.finlight.domain.user.entity.Role;
 import com.example.finlight.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByUsername(String username);
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
+    boolean existsByUsername(String username);
     boolean existsByNickname(String nickname);
+    boolean existsByUsernameOrNickname(String username, String nickname);
+
+    // 토큰 재발급 전용 - 리프레시 토큰엔 role이 없으므로 매번 현재 role을 읽음 (엔티티/캐시 대신 컬럼 하나만)
+    // readOnly가 아닌 트랜잭션 -> 항상 primary에서 읽음 (지연된 복제본이면 강등 직후 재발급에 예전 role이 실림)
+    @Transactional
+    @Query("select u.role from User u where u.id = :id")
+    Optional<Role> findRoleById(@Param("id") UUID id);
+
+    // /me 전용 - 엔티티 대신 필요한 세 컬럼만 DTO로 바로 조회 (비밀번호 해시를 읽지 않고, 영속성 컨텍스트 관리/변경 감지 대상도 아님)
+    // 리포지토리 쿼리 메서드는 기본이 readOnly 트랜잭션이라 flush도 일어나지 않음
+    @Query("select new com.example.finlight.domain.user.dto.res.UserResponseDTO(u.id, u.email, u.nickname) from User u where u.id = :id")
+    Optional<UserResponseDTO> findProfileById(@Param("id") UUID id);
+
+    // 관리자 목록 - (created_at, id) 기준 keyset 페이지네이션, OFFSET 없이 마지막으로 본 행 다음부터 인덱스를 그대로 타고 읽음
+    // usernamePattern은 local\_% 처럼 이스케이프된 LIKE 패턴 (전체면 "%")
+    @Query("select new com.example.finlight.domain.user.dto.res.UserSummaryDTO(u.id, u.email, u.nickname, u.username, u.role, u.createdAt) " +
+            "from User u where u.username like :usernamePattern escape '\\' " +
+            "order by u.createdAt, u.id")
+    List<UserSummaryDTO> findFirstPage(@Param("usernamePattern") String usernamePattern, Pageable limit);
+
+    // 행 값 비교 (created_at, id) > (?, ?) - OR로 풀어 쓰면 PostgreSQL이 인덱스 범위 조건으로 쓰지 못하고 앞부분부터 필터링함
+    @Query("select new com.example.finlight.domain.user.dto.res.UserSummaryDTO(u.id, u.email, u.nickname, u.username, u.role, u.createdAt) " +
+            "from User u where u.username like :usernamePattern escape '\\' " +
+            "and (u.createdAt, u.id) > (:createdAt, :id) " +
+            "order by u.createdAt, u.id")
+    List<UserSummaryDTO> findPageAfter(@Param("usernamePattern") String usernamePattern,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") UUID id,
+                                       Pageable limit);
+
+    // 관리자 내보내기 - 커서로 fetch size만큼씩 흘려 읽음 (DTO라 영속성 컨텍스트에도 쌓이지 않음, 트랜잭션 안에서 호출하고 사용 후 close 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.finlight.domain.user.dto.res.UserSummaryDTO(u.id, u.email, u.nickname, u.username, u.role, u.createdAt) " +
+            "from User u where u.username like :usernamePattern escape '\\' " +
+            "order by u.createdAt, u.id")
+    Stream<UserSummaryDTO> streamSummaries(@Param("usernamePattern") String usernamePattern);
+
+    // 전체 사용자를 한 번에 메모리로 올리지 않고 커서로 흘려 읽음 (트랜잭션 안에서 호출하고 사용 후 close 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.finlight.domain.user.repository.UserNames(u.username, u.nickname) from User u")
+    Stream<UserNames> streamAllNames();
+
+    // 중복 확인용 필터 갱신 - 지정 시각 이후 가입분만 (created_at, id) 인덱스 범위로 읽음 (트랜잭션 안에서 호출하고 사용 후 close 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.finlight.domain.user.repository.UserNames(u.username, u.nickname) from User u where u.createdAt >= :since")
+    Stream<UserNames> streamNamesCreatedSince(@Param("since") LocalDateTime since);
 }
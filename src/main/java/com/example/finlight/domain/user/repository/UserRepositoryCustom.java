@@ -0,0 +1,13 @@
+package com.example.finlight.domain.user.repository;
+
+import com.example.finlight.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByUsername(String username);
+
+    Optional<User> findByUsernameOnPrimary(String username);
+
+    boolean insertIfAbsent(User user);
+}
@@ -0,0 +1,56 @@
+package com.example.finlight.domain.user.repository;
+
+import com.example.finlight.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+// username은 natural id -> 파생 쿼리(select ... where username = ?) 대신 natural id 조회를 써야
+// users-by-username 캐시(username -> id)와 users 캐시(id -> 엔티티)를 거쳐 DB 없이 찾을 수 있음
+@Transactional(readOnly = true)
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+
+    // 로그인 전용 - 복제본에서 못 찾았을 때(다른 노드에서 방금 가입해 아직 복제 전) primary에서 한 번 더 조회
+    // readOnly가 아닌 새 트랜잭션이라 ReplicaRoutingDataSource가 primary로 보냄 (바깥 readOnly 트랜잭션의 복제본 연결에 합류하지 않음)
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<User> findByUsernameOnPrimary(String username) {
+        return findByUsername(username);
+    }
+
+    // 소셜 첫 로그인 - SELECT 후 INSERT 대신 한 문장으로 저장. 이미 있으면(동시 로그인 등) 아무것도 하지 않고 false
+    // RETURNING으로 결과 집합을 받는 조회로 실행 -> executeUpdate와 달리 2차 캐시 영역을 비우지 않음 (새 행이라 무효화할 항목도 없음)
+    // nickname 유니크 제약 위반은 그대로 예외 (DataIntegrityViolationException)
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(User user) {
+        List<?> inserted = entityManager.createNativeQuery(
+                        "INSERT INTO users (id, email, nickname, password, username, role, created_at) " +
+                        "VALUES (:id, :email, :nickname, :password, :username, :role, :createdAt) " +
+                        "ON CONFLICT (username) DO NOTHING RETURNING id")
+                .setParameter("id", user.getId())
+                .setParameter("email", user.getEmail())
+                .setParameter("nickname", user.getNickname())
+                .setParameter("password", user.getPassword())
+                .setParameter("username", user.getUsername())
+                .setParameter("role", user.getRole().name())
+                .setParameter("createdAt", user.getCreatedAt())
+                .getResultList();
+        return !inserted.isEmpty();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.finlight.domain.user.service;
+
+import com.example.finlight.domain.user.dto.res.UserPageDTO;
+import com.example.finlight.domain.user.dto.res.UserSummaryDTO;
+import com.example.finlight.domain.user.repository.UserRepository;
+import com.example.finlight.global.exception.CustomException;
+import com.example.finlight.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 관리자 사용자 조회 - findAll()처럼 전체를 메모리에 올리지 않도록
+//   목록   : (created_at, id) keyset 페이지네이션, 다음 페이지는 불투명 커서로 이어서 조회
+//   내보내기 : DB 커서를 그대로 NDJSON으로 흘려보냄 (메모리 사용량은 fetch size 수준으로 일정)
+@Service
+@RequiredArgsConstructor
+public class UserAdminService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int FLUSH_EVERY = 1000;
+    private static final Pattern PROVIDER = Pattern.compile("[a-z]{1,20}");   // local, google, kakao ...
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public UserPageDTO listUsers(String provider, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        String pattern = usernamePattern(provider);
+
+        // 한 건 더 읽어서 다음 페이지가 있는지 판단 (count 쿼리 없음)
+        PageRequest fetch = PageRequest.ofSize(limit + 1);
+        List<UserSummaryDTO> rows;
+        if (cursor == null) {
+            rows = userRepository.findFirstPage(pattern, fetch);
+        } else {
+            Cursor after = Cursor.decode(cursor);
+            rows = userRepository.findPageAfter(pattern, after.createdAt(), after.id(), fetch);
+        }
+
+        if (rows.size() <= limit) {
+            return new UserPageDTO(rows, null);
+        }
+        List<UserSummaryDTO> page = rows.subList(0, limit);
+        UserSummaryDTO last = page.get(limit - 1);
+        return new UserPageDTO(page, new Cursor(last.createdAt(), last.id()).encode());
+    }
+
+    // 스트림이 열려 있는 동안 트랜잭션(=DB 커서)이 유지되어야 하므로 요청 스레드에서 바로 응답에 씀
+    @Transactional(readOnly = true)
+    public void exportUsers(String provider, HttpServletResponse response) throws IOException {
+        String pattern = usernamePattern(provider);
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        OutputStream out = response.getOutputStream();
+
+        try (Stream<UserSummaryDTO> users = userRepository.streamSummaries(pattern)) {
+            long written = 0;
+            for (UserSummaryDTO user : (Iterable<UserSummaryDTO>) users::iterator) {
+                out.write(objectMapper.writeValueAsBytes(user));
+                out.write('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+    }
+
+    // provider -> username 접두사 LIKE 패턴 ("_"는 LIKE 와일드카드라 이스케이프)
+    private static String usernamePattern(String provider) {
+        if (provider == null || provider.isBlank()) {
+            return "%";
+        }
+        if (!PROVIDER.matcher(provider).matches()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return provider + "\\_%";
+    }
+
+    // 마지막으로 본 행의 (created_at, id) - 클라이언트에는 base64url 문자열로 전달
+    private record Cursor(LocalDateTime createdAt, UUID id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }
+        }
+    }
+}
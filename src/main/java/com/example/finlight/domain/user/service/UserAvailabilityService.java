@@ -0,0 +1,172 @@
+package com.example.finlight.domain.user.service;
+
+import com.example.finlight.domain.user.repository.UserNames;
+import com.example.finlight.domain.user.repository.UserRepository;
+import com.example.finlight.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+// 닉네임/아이디(username) 사용 가능 여부를 DB 대신 메모리의 Bloom filter로 먼저 판단
+// Bloom filter에 없으면 "확실히 사용 가능" -> DB 조회 없음, 있다고 하면("사용 중일 수도 있음")만 DB로 확인한다.
+// 시작 시 별도 스레드에서 전체 사용자를 스트리밍으로 읽어 채우고(그동안은 모두 DB로 확인), 가입 시 추가하며,
+// 다른 노드의 가입은 주기적으로 마지막 확인 이후 가입분만 (created_at, id) 인덱스 범위로 읽어 반영한다 (전체 재조회 없음).
+// 최종 판단은 여전히 DB 유니크 제약이므로, 여기서 "사용 가능"이라고 해도 가입 시 중복으로 실패할 수 있다.
+@Slf4j
+@Service
+public class UserAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final long expectedNames;
+    private final double falsePositiveRate;
+    private final Duration refreshOverlap;
+    private final AtomicBoolean buildRunning = new AtomicBoolean();
+
+    private volatile Filters current;    // null이면 아직 준비 전 -> 모두 DB로 확인
+    private volatile Filters building;   // 처음 구성 중인 필터 (그 사이 가입도 빠뜨리지 않도록 같이 추가)
+    private volatile LocalDateTime checkedUntil;   // 이 시각 이전 가입분까지 반영됨 (이 노드의 시계 기준)
+
+    @Autowired
+    public UserAvailabilityService(UserRepository userRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${users.availability.expected-names:1000000}") long expectedNames,
+                                   @Value("${users.availability.false-positive-rate:0.01}") double falsePositiveRate,
+                                   @Value("${users.availability.refresh-overlap:PT1M}") Duration refreshOverlap) {
+        this.userRepository = userRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.expectedNames = expectedNames;
+        this.falsePositiveRate = falsePositiveRate;
+        this.refreshOverlap = refreshOverlap;
+    }
+
+    public boolean isNicknameAvailable(String nickname) {
+        Filters filters = current;
+        if (filters != null && !filters.nicknames.mightContain(nickname)) {
+            return true;
+        }
+        return !userRepository.existsByNickname(nickname);
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        Filters filters = current;
+        if (filters != null && !filters.usernames.mightContain(username)) {
+            return true;
+        }
+        return !userRepository.existsByUsername(username);
+    }
+
+    // 둘 다 확실히 비어 있으면 false -> 가입 시 중복 조회 없이 바로 INSERT
+    public boolean mightBeTaken(String username, String nickname) {
+        Filters filters = current;
+        return filters == null
+                || filters.usernames.mightContain(username)
+                || filters.nicknames.mightContain(nickname);
+    }
+
+    // 소셜 로그인 - false면 확실히 처음 온 사용자 -> 기존 회원 조회 없이 바로 upsert
+    public boolean mightBeTaken(String username) {
+        Filters filters = current;
+        return filters == null || filters.usernames.mightContain(username);
+    }
+
+    // 가입 성공 후 호출
+    public void record(String username, String nickname) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(username, nickname);
+        }
+        Filters rebuilding = building;
+        if (rebuilding != null) {
+            rebuilding.put(username, nickname);
+        }
+    }
+
+    // 시작 시 - 전체 조회가 준비(ready) 스레드를 막지 않도록 별도 스레드에서
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildInBackground() {
+        Thread thread = new Thread(this::build, "user-availability-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // 처음 한 번만 전체 사용자를 읽음 (실패하면 다음 refresh에서 다시 시도)
+    void build() {
+        if (!buildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Filters next = new Filters(BloomFilter.create(expectedNames, falsePositiveRate),
+                BloomFilter.create(expectedNames, falsePositiveRate));
+        building = next;
+        try {
+            Long count = readOnlyTx.execute(status -> {
+                try (Stream<UserNames> names = userRepository.streamAllNames()) {
+                    return put(next, names);
+                }
+            });
+            checkedUntil = startedAt;
+            current = next;
+            log.info("[AVAILABILITY] name filter built: {} users", count);
+        } catch (RuntimeException e) {
+            log.warn("[AVAILABILITY] name filter build failed, checking DB until next refresh - {}", e.getMessage());
+        } finally {
+            building = null;
+            buildRunning.set(false);
+        }
+    }
+
+    // refresh-interval마다 마지막 확인 이후 가입분만 추가 - 노드 간 시계 차이, 늦게 커밋된 가입은 refresh-overlap만큼 겹쳐 읽어 보완 (중복 추가는 무해)
+    @Scheduled(fixedDelayString = "${users.availability.refresh-interval:PT10S}",
+            initialDelayString = "${users.availability.refresh-interval:PT10S}")
+    public void refresh() {
+        Filters filters = current;
+        if (filters == null) {
+            if (building == null) {
+                build();   // 처음 구성이 실패했던 경우
+            }
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = checkedUntil.minus(refreshOverlap);
+        Long count = readOnlyTx.execute(status -> {
+            try (Stream<UserNames> names = userRepository.streamNamesCreatedSince(since)) {
+                return put(filters, names);
+            }
+        });
+        checkedUntil = startedAt;
+        log.debug("[AVAILABILITY] name filter refreshed: {} users since {}", count, since);
+    }
+
+    boolean isReady() {
+        return current != null;
+    }
+
+    private static long put(Filters filters, Stream<UserNames> names) {
+        long count = 0;
+        for (UserNames name : (Iterable<UserNames>) names::iterator) {
+            filters.put(name.username(), name.nickname());
+            count++;
+        }
+        return count;
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter nicknames) {
+        void put(String username, String nickname) {
+            usernames.put(username);
+            nicknames.put(nickname);
+        }
+    }
+}
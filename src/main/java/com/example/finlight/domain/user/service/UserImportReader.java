@@ -0,0 +1,148 @@
+package com.example.finlight.domain.user.service;
+
+import com.example.finlight.domain.user.dto.req.UserSignupDTO;
+import com.example.finlight.global.exception.CustomException;
+import com.example.finlight.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 일괄 등록 본문(CSV / NDJSON)을 한 줄씩 읽어 가입 요청으로 변환 - 파일 전체를 메모리에 올리지 않음
+//   CSV    : 첫 줄은 헤더(email,nickname,password 순서 무관), 큰따옴표로 감싼 값과 "" 이스케이프 지원 (값 안의 줄바꿈은 미지원)
+//   NDJSON : 한 줄에 {"email":..,"nickname":..,"password":..} 하나
+final class UserImportReader {
+
+    enum Format { CSV, NDJSON }
+
+    // 형식 오류 행은 request 대신 error에 사유를 담음
+    record Row(long line, UserSignupDTO request, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private int emailColumn;
+    private int nicknameColumn;
+    private int passwordColumn;
+    private long line;
+
+    UserImportReader(InputStream in, Format format, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == Format.CSV) {
+            readHeader();
+        }
+    }
+
+    static Format formatOf(String contentType) {
+        if (contentType != null) {
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                return Format.CSV;
+            }
+            if (type.startsWith("application/x-ndjson")) {
+                return Format.NDJSON;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+
+    // 다음 행, 끝이면 null (빈 줄은 건너뜀)
+    Row next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        return format == Format.CSV ? csvRow(text) : jsonRow(text);
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        if (header == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        if (header.startsWith("\uFEFF")) {   // 엑셀에서 저장한 UTF-8 BOM
+            header = header.substring(1);
+        }
+        List<String> columns = split(header);
+        emailColumn = indexOf(columns, "email");
+        nicknameColumn = indexOf(columns, "nickname");
+        passwordColumn = indexOf(columns, "password");
+    }
+
+    private static int indexOf(List<String> columns, String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT);   // 필수 컬럼 누락 - 스트리밍 시작 전에 400
+    }
+
+    private Row csvRow(String text) {
+        List<String> fields = split(text);
+        if (fields == null) {
+            return new Row(line, null, "닫히지 않은 따옴표가 있습니다.");
+        }
+        int needed = Math.max(emailColumn, Math.max(nicknameColumn, passwordColumn)) + 1;
+        if (fields.size() < needed) {
+            return new Row(line, null, "컬럼 수가 부족합니다.");
+        }
+        return new Row(line, new UserSignupDTO(fields.get(emailColumn).trim(), fields.get(nicknameColumn).trim(), fields.get(passwordColumn)), null);
+    }
+
+    private Row jsonRow(String text) {
+        try {
+            return new Row(line, objectMapper.readValue(text, UserSignupDTO.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(line, null, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    // 따옴표가 닫히지 않았으면 null
+    static List<String> split(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
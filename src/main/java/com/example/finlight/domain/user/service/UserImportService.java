@@ -0,0 +1,282 @@
+package com.example.finlight.domain.user.service;
+
+import com.example.finlight.domain.user.dto.req.UserSignupDTO;
+import com.example.finlight.domain.user.dto.res.UserImportEventDTO;
+import com.example.finlight.domain.user.entity.Role;
+import com.example.finlight.global.exception.ServiceUnavailableException;
+import com.example.finlight.global.util.UuidV7;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 관리자 일괄 등록 - 파트너사 계정 이관처럼 수십만 건을 한 번에 넣을 때
+// 본문을 스트리밍으로 읽어 batch-size 단위로 처리하므로 메모리는 배치 하나 크기만 사용
+//   1. 형식/검증(회원가입과 같은 규칙) 실패 행은 error 이벤트로 알리고 건너뜀
+//   2. 배치 안 중복, 이미 가입된 이름(Bloom filter로 걸러진 후보만 IN 쿼리 한 번)을 제외
+//   3. 비밀번호 해싱은 병렬로 (실제 해싱은 PasswordEncoder의 공용 풀에서, 가득 차면 로그인에 양보하고 재시도)
+//   4. 엔티티/영속성 컨텍스트 없이 JDBC batch INSERT (배치당 트랜잭션 하나)
+// 진행 상황은 배치마다 NDJSON 한 줄씩 바로 내보냄
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (id, email, nickname, password, username, role, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final long BUSY_BACKOFF_MILLIS = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final UserAvailabilityService userAvailabilityService;
+    private final int batchSize;
+    private final ExecutorService hashPool;
+
+    @Autowired
+    public UserImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             PasswordEncoder passwordEncoder,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             UserAvailabilityService userAvailabilityService,
+                             @Value("${users.import.batch-size:500}") int batchSize,
+                             @Value("${users.import.hash-threads:0}") int hashThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.userAvailabilityService = userAvailabilityService;
+        this.batchSize = batchSize;
+
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();   // 동시에 해싱을 맡길 수 (CPU 상한은 공용 해싱 풀이 정함)
+        AtomicInteger sequence = new AtomicInteger();
+        this.hashPool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-import-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    public void importUsers(InputStream in, String contentType, HttpServletResponse response) throws IOException {
+        // 헤더/형식 오류는 응답을 쓰기 전에 예외로 -> 400
+        UserImportReader reader = new UserImportReader(in, UserImportReader.formatOf(contentType), objectMapper);
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        Progress progress = new Progress(response.getOutputStream());
+
+        List<Pending> batch = new ArrayList<>(batchSize);
+        UserImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            progress.processed++;
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                progress.error(row.line(), row.request() == null ? null : row.request().getEmail(), error);
+                continue;
+            }
+            batch.add(new Pending(row.line(), row.request()));
+            if (batch.size() == batchSize) {
+                flush(batch, progress);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch, progress);
+        }
+        progress.write(UserImportEventDTO.done(progress.processed, progress.imported, progress.failed));
+        log.info("사용자 일괄 등록 완료 - processed={}, imported={}, failed={}", progress.processed, progress.imported, progress.failed);
+    }
+
+    private String validate(UserSignupDTO request) {
+        Set<ConstraintViolation<UserSignupDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<UserSignupDTO> first = violations.iterator().next();
+        return first.getPropertyPath() + ": " + first.getMessage();
+    }
+
+    private void flush(List<Pending> batch, Progress progress) throws IOException {
+        List<Pending> accepted = removeDuplicates(batch, progress);
+
+        // 병렬 해싱 - 배치 전체가 끝날 때까지 기다린 뒤 INSERT
+        List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+        for (Pending pending : accepted) {
+            String rawPassword = pending.request.getPassword();
+            hashes.add(CompletableFuture.supplyAsync(() -> hash(rawPassword), hashPool));
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).encodedPassword = hashes.get(i).join();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, accepted, accepted.size(),
+                    UserImportService::bind));
+            progress.imported += accepted.size();
+            accepted.forEach(pending -> userAvailabilityService.record(pending.username(), pending.request.getNickname()));
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청이 먼저 가입한 경우 - 배치 전체가 롤백됐으므로 한 건씩 다시 넣어 실패 행만 골라냄
+            for (Pending pending : accepted) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, pending));
+                    progress.imported++;
+                    userAvailabilityService.record(pending.username(), pending.request.getNickname());
+                } catch (DataIntegrityViolationException duplicate) {
+                    progress.error(pending.line, pending.request.getEmail(), "이미 가입된 이메일 또는 닉네임입니다.");
+                }
+            }
+        }
+        progress.write(UserImportEventDTO.progress(progress.processed, progress.imported, progress.failed));
+    }
+
+    // 로그인이 몰려 공용 해싱 대기열이 찼으면(429) 일괄 등록이 양보하고 잠시 후 다시 시도
+    private String hash(String rawPassword) {
+        while (true) {
+            try {
+                return passwordEncoder.encode(rawPassword);
+            } catch (ServiceUnavailableException e) {
+                try {
+                    Thread.sleep(BUSY_BACKOFF_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 배치 안에서 겹치는 행, 이미 가입된 행을 제외
+    private List<Pending> removeDuplicates(List<Pending> batch, Progress progress) throws IOException {
+        Set<String> usernames = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        List<String> candidateUsernames = new ArrayList<>();
+        List<String> candidateNicknames = new ArrayList<>();
+        List<Pending> unique = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            String nickname = pending.request.getNickname();
+            boolean newUsername = usernames.add(pending.username());
+            boolean newNickname = nicknames.add(nickname);
+            if (!newUsername || !newNickname) {
+                progress.error(pending.line, pending.request.getEmail(), "파일 안에 같은 이메일 또는 닉네임이 있습니다.");
+                continue;
+            }
+            unique.add(pending);
+            if (userAvailabilityService.mightBeTaken(pending.username(), nickname)) {
+                candidateUsernames.add(pending.username());
+                candidateNicknames.add(nickname);
+            }
+        }
+        if (candidateUsernames.isEmpty()) {
+            return unique;
+        }
+
+        Set<String> taken = new HashSet<>();
+        namedJdbcTemplate.query("SELECT username, nickname FROM users WHERE username IN (:usernames) OR nickname IN (:nicknames)",
+                new MapSqlParameterSource()
+                        .addValue("usernames", candidateUsernames)
+                        .addValue("nicknames", candidateNicknames),
+                rs -> {
+                    taken.add("u:" + rs.getString(1));
+                    taken.add("n:" + rs.getString(2));
+                });
+
+        List<Pending> accepted = new ArrayList<>(unique.size());
+        for (Pending pending : unique) {
+            if (taken.contains("u:" + pending.username()) || taken.contains("n:" + pending.request.getNickname())) {
+                progress.error(pending.line, pending.request.getEmail(), "이미 가입된 이메일 또는 닉네임입니다.");
+            } else {
+                accepted.add(pending);
+            }
+        }
+        return accepted;
+    }
+
+    private static void bind(PreparedStatement ps, Pending pending) throws SQLException {
+        ps.setObject(1, UuidV7.next());
+        ps.setString(2, pending.request.getEmail());
+        ps.setString(3, pending.request.getNickname());
+        ps.setString(4, pending.encodedPassword);
+        ps.setString(5, pending.username());
+        ps.setString(6, Role.USER.name());
+        ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static final class Pending {
+        private final long line;
+        private final UserSignupDTO request;
+        private String encodedPassword;
+
+        private Pending(long line, UserSignupDTO request) {
+            this.line = line;
+            this.request = request;
+        }
+
+        private String username() {
+            return "local_" + request.getEmail();   // 일반 회원가입과 같은 규칙
+        }
+    }
+
+    // 누적 건수와 NDJSON 출력
+    private final class Progress {
+        private final OutputStream out;
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private Progress(OutputStream out) {
+            this.out = out;
+        }
+
+        private void error(long line, String email, String message) throws IOException {
+            failed++;
+            write(UserImportEventDTO.error(line, email, message));
+        }
+
+        private void write(UserImportEventDTO event) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(event));
+            out.write('\n');
+            if (!"error".equals(event.type())) {
+                out.flush();   // 배치마다 클라이언트로 바로 전송
+            }
+        }
+    }
+}
@@ -1,17 +1,21 @@
 package com.example.finlight.domain.user.service;
 
 import com.example.finlight.domain.user.dto.req.UserSignupDTO;
+import com.example.finlight.domain.user.dto.res.AvailabilityResponseDTO;
 import com.example.finlight.domain.user.dto.res.UserResponseDTO;
 import com.example.finlight.domain.user.entity.Role;
 import com.example.finlight.domain.user.entity.User;
 import com.example.finlight.domain.user.repository.UserRepository;
 import com.example.finlight.global.auth.jwt.JwtUtil;
+import com.example.finlight.global.auth.jwt.VerifiedToken;
+import com.example.finlight.global.auth.refresh.RefreshTokenStore;
+import com.example.finlight.global.auth.refresh.RotationResult;
 import com.example.finlight.global.exception.CustomException;
 import com.example.finlight.global.exception.ErrorCode;
-import com.example.finlight.global.redis.RefreshTokenService;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
@@ -28,16 +32,18 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserAvailabilityService userAvailabilityService;
 
     @Transactional
     public UserResponseDTO originalSignUp(UserSignupDTO req) {
         String email = req.getEmail();
         String username = "local_" + email;
 
-        if (userRepository.findByUsername(username).isPresent())
-            throw new CustomException(ErrorCode.DUPLICATE_USER);
-        if (userRepository.existsByNickname(req.getNickname()))
+        // Bloom filter로 확실히 비어 있는 이름이면 중복 확인용 SELECT 없이 바로 INSERT - username/nickname 유니크 제약이 중복을 판단 (동시 가입에도 안전)
+        // "사용 중일 수도 있음"일 때만 쿼리 한 번으로 확인해서, 실제 중복이면 비밀번호 해싱 전에 거절
+        if (userAvailabilityService.mightBeTaken(username, req.getNickname())
+                && userRepository.existsByUsernameOrNickname(username, req.getNickname()))
             throw new CustomException(ErrorCode.DUPLICATE_USER);
 
         User user = User.createUser(
@@ -48,28 +54,55 @@ public class UserService {
                 Role.USER
         );
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);   // flush로 INSERT를 바로 실행해서 제약 위반을 여기서 받음
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.DUPLICATE_USER);
+        }
+        userAvailabilityService.record(username, user.getNickname());
         return new UserResponseDTO(user.getId(), user.getEmail(), user.getNickname());
 
     }
 
+    // 가입 폼 입력 중 실시간 중복 확인 - 확인하지 않은 항목은 null
+    public AvailabilityResponseDTO checkAvailability(String nickname, String email) {
+        boolean hasNickname = nickname != null && !nickname.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasNickname && !hasEmail)
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+
+        return new AvailabilityResponseDTO(
+                hasNickname ? userAvailabilityService.isNicknameAvailable(nickname) : null,
+                hasEmail ? userAvailabilityService.isUsernameAvailable("local_" + email) : null
+        );
+    }
+
     public ResponseEntity<?> reissueToken(String refreshToken, HttpServletResponse response) {
         if (refreshToken == null)
             return ResponseEntity.status(401).body("No refresh token");
 
-        if (!jwtUtil.isTokenValid(refreshToken))
+        // 서명/만료 검증과 userId, role, 기기 세션 추출을 한 번에
+        VerifiedToken verified = jwtUtil.verify(refreshToken);
+        if (verified == null || verified.sessionId() == null)
             return ResponseEntity.status(401).body("Invalid refresh token");
 
-        UUID userId = jwtUtil.extractUserId(refreshToken);
-        if (!refreshTokenService.verifyRefreshToken(userId, refreshToken))
-            return ResponseEntity.status(401).body("Mismatch/expired refresh token");
+        UUID userId = verified.userId();
+        UUID sessionId = verified.sessionId();
+
+        // 재발급은 드물어서 조회 한 번 감당 가능 - 토큰이 아닌 DB의 현재 role로 발급 (강등/탈퇴가 다음 재발급부터 반영)
+        Role role = userRepository.findRoleById(userId).orElse(null);
+        if (role == null)
+            return ResponseEntity.status(401).body("User not found");
 
-        // 로테이션
-        refreshTokenService.delete(userId);
-        String newRefresh = jwtUtil.createRefreshToken(userId);
-        refreshTokenService.save(userId, newRefresh, Duration.ofDays(14));
+        // 로테이션 - 세션의 토큰 확인, 새 토큰으로 교체, TTL 갱신을 Redis에서 한 번에 처리 (동시 재발급은 하나만 성공)
+        String newRefresh = jwtUtil.createRefreshToken(userId, sessionId);
+        RotationResult rotation = refreshTokenStore.rotate(userId, sessionId, refreshToken, newRefresh, jwtUtil.getRefreshTtl());
+        if (rotation == RotationResult.REUSE_DETECTED)
+            return ResponseEntity.status(401).body("Refresh token reuse detected");   // 해당 세션은 Redis에서 이미 폐기됨
+        if (rotation != RotationResult.ROTATED)
+            return ResponseEntity.status(401).body("Mismatch/expired refresh token");
 
-        String accessToken = jwtUtil.createAccessToken(userId);
+        String accessToken = jwtUtil.createAccessToken(userId, role);
 
         // 쿠키 세팅
         ResponseCookie cookie = ResponseCookie.from("refreshToken", newRefresh)
@@ -88,8 +121,14 @@ public class UserService {
         ));
     }
 
-    public ResponseEntity<?> logout(UUID userId, HttpServletResponse response) {
-            refreshTokenService.delete(userId); // RT 제거
+    public ResponseEntity<?> logout(UUID userId, String refreshToken, HttpServletResponse response) {
+            // 이 기기의 리프레시 토큰이 있으면 그 세션만, 없으면 모든 기기 세션 제거
+            VerifiedToken verified = refreshToken == null ? null : jwtUtil.verify(refreshToken);
+            if (verified != null && verified.sessionId() != null && verified.userId().equals(userId))
+                refreshTokenStore.delete(userId, verified.sessionId());
+            else
+                refreshTokenStore.delete(userId); // RT 제거
+            // 이미 발급된 액세스 토큰은 만료(jwt.access-expiration)까지 유효 - 로그아웃은 재발급을 막는 것
 
         // 캐시 금지
         response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
@@ -107,14 +146,11 @@ public class UserService {
         return ResponseEntity.ok().build();
     }
 
-    public ResponseEntity<?> me(UUID userId) {
-        User user = userRepository.findById(userId)
+    // 엔티티를 올리지 않고 projection을 그대로 응답 (응답 JSON 형태는 기존과 동일: id, email, nickname)
+    public ResponseEntity<UserResponseDTO> me(UUID userId) {
+        UserResponseDTO profile = userRepository.findProfileById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        return ResponseEntity.ok(Map.of(
-                "id", user.getId(),
-                "email", user.getEmail(),
-                "nickname", user.getNickname()
-        ));
+        return ResponseEntity.ok(profile);
     }
 }
@@ -2,8 +2,11 @@ package com.example.finlight.global.auth;
 
 import com.example.finlight.domain.user.entity.User;
 import com.example.finlight.global.auth.jwt.JwtUtil;
+import com.example.finlight.global.auth.limit.LoginThrottle;
+import com.example.finlight.global.auth.refresh.RefreshTokenStore;
 import com.example.finlight.global.dto.LoginRequestDTO;
-import com.example.finlight.global.redis.RefreshTokenService;
+import com.example.finlight.global.exception.ErrorResponseWriter;
+import com.example.finlight.global.exception.ServiceUnavailableException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,11 +27,14 @@ import java.util.UUID;
 public class JwtLoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final JwtUtil jwtUtil;
-    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginThrottle loginThrottle;
 
-    public JwtLoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil, RefreshTokenService refreshTokenService) {
+    public JwtLoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil, RefreshTokenStore refreshTokenStore,
+                          LoginThrottle loginThrottle) {
         this.jwtUtil = jwtUtil;
-        this.refreshTokenService = refreshTokenService;
+        this.refreshTokenStore = refreshTokenStore;
+        this.loginThrottle = loginThrottle;
         setAuthenticationManager(authenticationManager);
     }
 
@@ -42,12 +48,20 @@ public class JwtLoginFilter extends UsernamePasswordAuthenticationFilter {
             String username = "local_" + loginRequest.getEmail();
             String password = loginRequest.getPassword();
 
+            // 시도 횟수 제한 - 초과면 사용자 조회/BCrypt 검증 없이 429
+            // 로드밸런서 뒤에서는 server.forward-headers-strategy: native로 X-Forwarded-For의 실제 클라이언트 IP가 들어옴 (application.yml)
+            loginThrottle.check(request.getRemoteAddr(), username);
+
             // UsernamePasswordAuthenticationToken 생성
             UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password);
 
             // AuthenticationManager에게 "이 사용자를 인증해달라"고 요청
             return getAuthenticationManager().authenticate(authToken);
 
+        } catch (ServiceUnavailableException e) {
+            // 시도 횟수 초과 / 비밀번호 검증 풀이 가득 참 - 429로 응답하고 인증 처리 종료 (null이면 필터가 더 진행하지 않음)
+            ErrorResponseWriter.writeRetryLater(response, e);
+            return null;
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -61,14 +75,22 @@ public class JwtLoginFilter extends UsernamePasswordAuthenticationFilter {
         PrincipalDetails principal = (PrincipalDetails) authResult.getPrincipal();
         User user = principal.getUser();
         UUID userId = user.getId();
+        loginThrottle.succeeded(request.getRemoteAddr(), user.getUsername());   // 성공하면 username의 실패 누적을 지우고 IP 한도에서도 뺌
 
         // JWT 토큰 생성
-        String accessToken = jwtUtil.createAccessToken(userId);
-        String refreshToken = jwtUtil.createRefreshToken(userId);
+        String accessToken = jwtUtil.createAccessToken(userId, user.getRole());
+        UUID sessionId = UUID.randomUUID();   // 로그인마다 새 기기 세션
+        String refreshToken = jwtUtil.createRefreshToken(userId, sessionId);
         Duration refreshTtl = jwtUtil.getRefreshTtl();
 
-        // Redis에 Refresh Token을 저장
-        refreshTokenService.save(userId, refreshToken, refreshTtl);
+        // Redis에 Refresh Token을 기기 세션 단위로 저장 (다른 기기의 세션은 유지됨)
+        try {
+            refreshTokenStore.save(userId, sessionId, refreshToken, refreshTtl);
+        } catch (ServiceUnavailableException e) {
+            // Redis 장애 - 토큰을 발급하지 않고 빨리 실패 (클라이언트는 Retry-After 후 재시도)
+            ErrorResponseWriter.writeRetryLater(response, e);
+            return;
+        }
 
         // Refresh Token -> HttpOnly 쿠키로 전달
         ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", refreshToken)
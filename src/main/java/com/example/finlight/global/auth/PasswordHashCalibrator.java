@@ -0,0 +1,43 @@
+package com.example.finlight.global.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+// 현재 하드웨어에서 해시 1회가 목표 시간에 가장 가깝도록 BCrypt 강도(work factor)를 고름 - 시작 시 권장값 로그용 (적용은 설정값)
+// 강도가 1 오를 때마다 시간이 2배가 되므로, 기준 강도에서 한 번 재고 나머지는 계산으로 정함 (시작 시간에 영향이 거의 없도록)
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final int SAMPLES = 3;
+
+    private PasswordHashCalibrator() {
+    }
+
+    // min~max 사이에서 목표 시간을 넘지 않는 가장 큰 강도 (min보다 느려도 min 미만으로는 내리지 않음)
+    public static int bcryptStrength(Duration target, int min, int max) {
+        long baseNanos = measure(min);
+        int strength = min;
+        long estimated = baseNanos;
+        while (strength < max && estimated * 2 <= target.toNanos()) {
+            strength++;
+            estimated *= 2;
+        }
+        log.info("BCrypt 권장 강도: strength={} (강도 {} 실측 {}ms, 예상 {}ms, 목표 {}ms)",
+                strength, min, baseNanos / 1_000_000, estimated / 1_000_000, target.toMillis());
+        return strength;
+    }
+
+    // 여러 번 재서 가장 빠른 값 (JIT, 스케줄링 잡음 제거)
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
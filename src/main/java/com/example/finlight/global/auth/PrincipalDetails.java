@@ -34,7 +34,7 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
     // 해당 User의 권한을 리턴
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return java.util.List.of(user.getRole());
+        return user.getRole().authorities();   // 역할별로 미리 만들어 둔 불변 목록
     }
 
     @Override
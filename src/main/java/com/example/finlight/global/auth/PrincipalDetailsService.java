@@ -3,13 +3,16 @@ package com.example.finlight.global.auth;
 import com.example.finlight.domain.user.entity.User;
 import com.example.finlight.domain.user.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 // 사용자 정보 조회
+// UserDetailsPasswordService도 구현 -> 로그인 성공 시 저장된 해시가 예전 형식/강도면 DaoAuthenticationProvider가 새로 해싱해서 넘겨줌
 @Service
-public class PrincipalDetailsService implements UserDetailsService {
+public class PrincipalDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -26,12 +29,23 @@ public class PrincipalDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("올바르지 않은 사용자 이름입니다.");
         }
 
-        // 2. DB에서 해당 username으로 User 찾기
+        // 2. DB에서 해당 username으로 User 찾기 - 복제본에 아직 없으면(가입 직후 복제 지연) primary에서 다시 확인
         User user = userRepository.findByUsername(username)
+                .or(() -> userRepository.findByUsernameOnPrimary(username))
                 .orElseThrow(() -> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다."));
 
         // 3. User를 PrincipalDetails로 감싸서 반환
         //    → 이게 AuthenticationManager로 다시 넘어감
         return new PrincipalDetails(user);
     }
+
+    // 사용자당 한 번만 일어남 (다시 해싱한 뒤에는 upgradeEncoding이 false)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다."));
+        user.changePassword(newPassword);   // 변경 감지로 UPDATE
+        return new PrincipalDetails(user);
+    }
 }
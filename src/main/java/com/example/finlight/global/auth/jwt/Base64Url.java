@@ -0,0 +1,70 @@
+package com.example.finlight.global.auth.jwt;
+
+// JWT 세그먼트용 Base64URL(패딩 없음) 디코더
+// java.util.Base64는 배열 전체만 받거나 새 배열을 만들어 반환하므로, 토큰 버퍼의 일부 구간을 재사용 버퍼로 바로 디코딩하기 위해 직접 구현
+final class Base64Url {
+
+    private static final int[] DECODE = new int[128];
+
+    static {
+        java.util.Arrays.fill(DECODE, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private Base64Url() {
+    }
+
+    static boolean isAlphabet(char c) {
+        return c < 128 && DECODE[c] >= 0;
+    }
+
+    static int decodedLength(int encodedLength) {
+        int remainder = encodedLength % 4;
+        return encodedLength / 4 * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    // src[from, to)를 dst에 디코딩하고 길이를 반환. Base64URL 문자가 아니거나 길이가 맞지 않으면 -1
+    static int decode(byte[] src, int from, int to, byte[] dst) {
+        if ((to - from) % 4 == 1) {
+            return -1;
+        }
+        int out = 0;
+        int i = from;
+        while (i + 4 <= to) {
+            int a = valueOf(src[i]);
+            int b = valueOf(src[i + 1]);
+            int c = valueOf(src[i + 2]);
+            int d = valueOf(src[i + 3]);
+            if ((a | b | c | d) < 0) {
+                return -1;
+            }
+            int bits = a << 18 | b << 12 | c << 6 | d;
+            dst[out++] = (byte) (bits >> 16);
+            dst[out++] = (byte) (bits >> 8);
+            dst[out++] = (byte) bits;
+            i += 4;
+        }
+        int remainder = to - i;
+        if (remainder >= 2) {
+            int a = valueOf(src[i]);
+            int b = valueOf(src[i + 1]);
+            int c = remainder == 3 ? valueOf(src[i + 2]) : 0;
+            if ((a | b | c) < 0) {
+                return -1;
+            }
+            int bits = a << 18 | b << 12 | c << 6;
+            dst[out++] = (byte) (bits >> 16);
+            if (remainder == 3) {
+                dst[out++] = (byte) (bits >> 8);
+            }
+        }
+        return out;
+    }
+
+    private static int valueOf(byte b) {
+        return b < 0 ? -1 : DECODE[b];
+    }
+}
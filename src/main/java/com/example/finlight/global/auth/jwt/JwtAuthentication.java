@@ -0,0 +1,64 @@
+package com.example.finlight.global.auth.jwt;
+
+import com.example.finlight.domain.user.entity.Role;
+import org.springframework.security.core.Authentication;
+
+import java.util.Collection;
+import java.util.UUID;
+
+// 검증된 액세스 토큰 하나에 대응하는 불변 인증 객체
+// 토큰을 처음 검증할 때 한 번 만들어 VerifiedTokenCache에 보관하고, 같은 토큰의 요청에서는 이 객체를 그대로 SecurityContext에 넣는다.
+// (UsernamePasswordAuthenticationToken은 생성 시 권한 목록을 매번 복사함)
+public final class JwtAuthentication implements Authentication {
+
+    private final VerifiedToken token;
+
+    public JwtAuthentication(VerifiedToken token) {
+        this.token = token;
+    }
+
+    public VerifiedToken getToken() {
+        return token;
+    }
+
+    public UUID getUserId() {
+        return token.userId();
+    }
+
+    // @AuthenticationPrincipal UUID userId 로 주입되는 값
+    @Override
+    public Object getPrincipal() {
+        return token.userId();
+    }
+
+    @Override
+    public Collection<Role> getAuthorities() {
+        return token.role().authorities();
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    // 여러 요청이 공유하는 객체이므로 상태 변경 불가
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        throw new IllegalArgumentException("JwtAuthentication은 변경할 수 없습니다.");
+    }
+
+    @Override
+    public String getName() {
+        return token.userId().toString();
+    }
+}
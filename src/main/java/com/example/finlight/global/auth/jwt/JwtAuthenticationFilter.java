@@ -1,54 +1,82 @@
 package com.example.finlight.global.auth.jwt;
 
+import com.example.finlight.global.auth.route.PublicRoutes;
+import com.example.finlight.global.auth.route.RouteTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.UUID;
 
 // JWT 검증을 담당하는 주체 (모든 요청에서 실행)
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RouteTable publicRoutes = PublicRoutes.table();
+    private final Counter skippedRequests;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, VerifiedTokenCache verifiedTokenCache, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.skippedRequests = Counter.builder("auth.jwt.filter.skipped")
+                .description("공개 경로라서 JWT 처리를 건너뛴 요청 수")
+                .register(meterRegistry);
+    }
+
+    // permitAll 경로는 토큰 추출/검증 자체를 하지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getPathInfo() == null
+                ? request.getServletPath()
+                : request.getServletPath() + request.getPathInfo();
+        if (publicRoutes.matches(request.getMethod(), path)) {
+            skippedRequests.increment();
+            return true;
+        }
+        return false;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = resolveToken(request);    // Authorization 헤더에서 "Bearer " 토큰 추출
 
-        // 2. 토큰 유효성 검증
-        if (token != null && jwtUtil.isTokenValid(token)) {
-            // 3. 토큰에서 userId 추출
-            UUID userId = jwtUtil.extractUserId(token);
-
-            // 4. SecurityContext에 인증 정보 저장
-            UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                    userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))
-            );
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        // 2. 토큰 유효성 검증 - 이미 검증한 토큰이면 캐시에서 꺼내고, 처음 보는 토큰만 한 번 파싱(서명 검증 + userId/role 추출)
+        JwtAuthentication authentication = token != null ? authenticate(token) : null;
+        if (authentication != null) {
+            // 3. SecurityContext에 인증 정보 저장 - 토큰의 role로 미리 만들어 둔 불변 인증 객체를 그대로 사용 (DB 조회 없음)
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
         // 5. 다음 필터로 넘김 (JWT가 없거나 invalid해도 계속 진행)
         filterChain.doFilter(request, response);
     }
 
+    private JwtAuthentication authenticate(String token) {
+        JwtAuthentication authentication = verifiedTokenCache.get(token);
+        if (authentication == null) {
+            VerifiedToken verified = jwtUtil.verify(token);
+            if (verified != null) {
+                authentication = new JwtAuthentication(verified);
+                verifiedTokenCache.put(token, authentication);
+            }
+        }
+        return authentication;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
-        if (bearer != null && bearer.startsWith("Bearer ")) {
+        // 비정상적으로 긴 헤더는 토큰으로 보지 않음 (검증 시도 자체를 하지 않음)
+        if (bearer != null && bearer.length() <= JwtUtil.MAX_TOKEN_LENGTH + 7 && bearer.startsWith("Bearer ")) {
             return bearer.substring(7);
         }
         return null;
@@ -1,5 +1,7 @@
 package com.example.finlight.global.auth.jwt;
 
+import com.example.finlight.domain.user.entity.Role;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -17,9 +19,13 @@ import java.util.UUID;
 
 @Component
 public class JwtUtil {
+    // 이보다 긴 토큰은 파싱하지 않고 바로 거절 (정상 토큰은 300자 안팎)
+    public static final int MAX_TOKEN_LENGTH = 1024;
+
     private final Key secretKey;
     private final Duration accessTokenValidity;
     private final Duration refreshTokenValidity;
+    private final JwtVerifier verifier;   // 검증 엔진은 한 번만 만들고 재사용
 
     @Autowired
     public JwtUtil(
@@ -30,44 +36,69 @@ public class JwtUtil {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidity = accessTokenValidity;
         this.refreshTokenValidity = refreshTokenValidity;
+        this.verifier = new JwtVerifier(this.secretKey);
     }
 
     public String createAccessToken(UUID userId) {
-        Instant now = Instant.now();
-        return Jwts.builder()
-                .setSubject(userId.toString())
-                .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(now.plus(accessTokenValidity)))
-                .signWith(secretKey, SignatureAlgorithm.HS512)
-                .compact();
+        return createAccessToken(userId, Role.USER);
     }
 
+    // role은 한 글자 코드로 담아서 필터가 DB 조회 없이 권한을 복원할 수 있게 함
+    public String createAccessToken(UUID userId, Role role) {
+        return createToken(userId, role, accessTokenValidity);
+    }
+
+    // 새 기기 세션의 리프레시 토큰
     public String createRefreshToken(UUID userId) {
+        return createRefreshToken(userId, UUID.randomUUID());
+    }
+
+    // 리프레시 토큰에는 role을 넣지 않음 - 재발급 시 DB의 현재 role로 액세스 토큰을 만듦 (강등된 사용자가 재발급으로 권한을 이어가지 못하게)
+    // sid(기기 세션)는 로테이션해도 유지되고, jti로 같은 초에 발급된 토큰끼리도 항상 달라지게 함
+    public String createRefreshToken(UUID userId, UUID sessionId) {
+        return createToken(userId, null, refreshTokenValidity, sessionId);
+    }
+
+    private String createToken(UUID userId, Role role, Duration validity) {
+        return createToken(userId, role, validity, null);
+    }
+
+    private String createToken(UUID userId, Role role, Duration validity, UUID sessionId) {
         Instant now = Instant.now();
-        return Jwts.builder()
-                .setSubject(userId.toString())
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(userId.toString());
+        if (role != null) {
+            builder.claim("role", String.valueOf(role.getCode()));
+        }
+        if (sessionId != null) {
+            builder.claim("sid", sessionId.toString())
+                    .setId(UUID.randomUUID().toString());
+        }
+        return builder
                 .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(now.plus(refreshTokenValidity)))
+                .setExpiration(Date.from(now.plus(validity)))
                 .signWith(secretKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public UUID extractUserId(String token) {
-        return UUID.fromString(
-                Jwts.parserBuilder().setSigningKey(secretKey).build()
-                        .parseClaimsJws(token)
-                        .getBody()
-                        .getSubject()
-        );
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return verified.userId();
     }
 
-    public boolean isTokenValid(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    // 서명/만료 검증과 claim 추출을 한 번에 처리. 유효하지 않으면 null (예외를 만들지 않음)
+    public VerifiedToken verify(String token) {
+        if (token == null) {
+            return null;
         }
+        return verifier.verify(token, System.currentTimeMillis());
+    }
+
+    public boolean isTokenValid(String token) {
+        return verify(token) != null;
     }
 
     public Duration getRefreshTtl() {
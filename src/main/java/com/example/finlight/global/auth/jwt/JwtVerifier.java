@@ -0,0 +1,395 @@
+package com.example.finlight.global.auth.jwt;
+
+import com.example.finlight.domain.user.entity.Role;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.UUID;
+
+// HS512 JWT 검증 엔진
+// jjwt 파서는 호출마다 파서/Mac을 새로 만들고 claim 전체를 Jackson으로 Map에 역직렬화한다.
+// 여기서는 스레드마다 Mac과 버퍼를 재사용하고, payload에서 필요한 claim(sub, exp, iat, role, sid)만 바이트 단위로 읽는다.
+final class JwtVerifier {
+
+    private static final int HS512_SIGNATURE_LENGTH = 64;
+    private static final int HS512_SIGNATURE_SEGMENT_LENGTH = 86;   // 64바이트를 패딩 없이 Base64URL로 인코딩한 길이
+
+    // jjwt가 HS512로 서명할 때 만드는 header {"alg":"HS512"} 의 인코딩 결과
+    private static final byte[] CANONICAL_HEADER = "eyJhbGciOiJIUzUxMiJ9".getBytes(StandardCharsets.US_ASCII);
+
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<Scratch> scratches = ThreadLocal.withInitial(Scratch::new);
+
+    JwtVerifier(Key key) {
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA512");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA512 Mac 초기화 실패", e);
+            }
+        });
+    }
+
+    // 서명, 알고리즘, 만료까지 검증하고 유효하면 결과를, 아니면 null을 반환 (예외를 던지지 않음)
+    // 비용이 싼 검사부터 순서대로 진행해서, 쓰레기/만료 토큰은 Base64 전체 디코딩이나 HMAC 없이 거절한다.
+    VerifiedToken verify(String token, long nowMillis) {
+        // 1. 길이 상한 - 서명 세그먼트만 86자이므로 그보다 짧으면 볼 필요도 없음
+        int length = token.length();
+        if (length <= HS512_SIGNATURE_SEGMENT_LENGTH + 4 || length > JwtUtil.MAX_TOKEN_LENGTH) {
+            return null;
+        }
+
+        // 2. 구조/문자 검사: 한 번 순회하면서 '.' 위치를 찾고 Base64URL 문자만 ASCII 버퍼로 복사
+        Scratch scratch = scratches.get();
+        byte[] ascii = scratch.ascii(length);
+        int firstDot = -1;
+        int secondDot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (firstDot < 0) {
+                    firstDot = i;
+                } else if (secondDot < 0) {
+                    secondDot = i;
+                } else {
+                    return null;   // 세그먼트가 3개보다 많음
+                }
+            } else if (!Base64Url.isAlphabet(c)) {
+                return null;
+            }
+            ascii[i] = (byte) c;
+        }
+        if (firstDot <= 0 || secondDot <= firstDot + 1
+                || length - secondDot - 1 != HS512_SIGNATURE_SEGMENT_LENGTH) {
+            return null;
+        }
+
+        // 3. header의 alg 확인 - 우리가 발급하는 header와 같으면 디코딩 없이 바이트 비교로 끝
+        Claims claims = scratch.claims.reset();
+        if (!isCanonicalHeader(ascii, firstDot)) {
+            byte[] json = scratch.json(Base64Url.decodedLength(firstDot));
+            int headerLength = Base64Url.decode(ascii, 0, firstDot, json);
+            if (headerLength < 0 || !ClaimsReader.read(json, headerLength, claims) || !claims.hs512) {
+                return null;
+            }
+            claims.reset();
+        }
+
+        // 4. 서명 검증 전에 payload를 먼저 읽어서 sub/exp가 없거나 이미 만료된 토큰은 HMAC 없이 거절
+        //    (여기서 읽은 값은 5번의 서명 검증을 통과한 뒤에만 결과로 사용된다)
+        byte[] json = scratch.json(Base64Url.decodedLength(secondDot - firstDot - 1));
+        int payloadLength = Base64Url.decode(ascii, firstDot + 1, secondDot, json);
+        if (payloadLength < 0 || !ClaimsReader.read(json, payloadLength, claims)
+                || !claims.hasSubject || claims.expSeconds < 0) {
+            return null;
+        }
+        long expiresAtMillis = claims.expSeconds * 1000;
+        if (nowMillis > expiresAtMillis) {   // jjwt와 동일하게 now > exp 이면 만료
+            return null;
+        }
+
+        // 5. 서명 검증: HMAC-SHA512(header.payload)와 signature 세그먼트를 상수 시간 비교
+        if (Base64Url.decode(ascii, secondDot + 1, length, scratch.signature) != HS512_SIGNATURE_LENGTH) {
+            return null;
+        }
+        Mac mac = macs.get();
+        mac.update(ascii, 0, secondDot);
+        try {
+            mac.doFinal(scratch.expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        if (!constantTimeEquals(scratch.expected, scratch.signature)) {
+            return null;
+        }
+
+        // role claim이 없는 토큰(role 도입 전 발급)은 USER로 취급
+        Role role = claims.roleCode == 0 ? Role.USER : Role.fromCode(claims.roleCode);
+        if (role == null) {
+            return null;
+        }
+        long issuedAtMillis = claims.iatSeconds < 0 ? 0 : claims.iatSeconds * 1000;
+        UUID sessionId = claims.hasSession ? new UUID(claims.sessionMsb, claims.sessionLsb) : null;
+        return new VerifiedToken(new UUID(claims.subjectMsb, claims.subjectLsb), role, issuedAtMillis, expiresAtMillis, sessionId);
+    }
+
+    private static boolean isCanonicalHeader(byte[] ascii, int firstDot) {
+        if (firstDot != CANONICAL_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < firstDot; i++) {
+            if (ascii[i] != CANONICAL_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean constantTimeEquals(byte[] a, byte[] b) {
+        int diff = 0;
+        for (int i = 0; i < HS512_SIGNATURE_LENGTH; i++) {
+            diff |= a[i] ^ b[i];
+        }
+        return diff == 0;
+    }
+
+    // 스레드별 재사용 버퍼 - 토큰 길이가 늘어날 때만 다시 할당
+    private static final class Scratch {
+        private byte[] ascii = new byte[512];
+        private byte[] json = new byte[384];
+        private final byte[] signature = new byte[HS512_SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[HS512_SIGNATURE_LENGTH];
+        private final Claims claims = new Claims();
+
+        byte[] ascii(int length) {
+            if (ascii.length < length) {
+                ascii = new byte[length];
+            }
+            return ascii;
+        }
+
+        byte[] json(int length) {
+            if (json.length < length) {
+                json = new byte[length];
+            }
+            return json;
+        }
+    }
+
+    // 읽어낸 claim을 담는 가변 객체 (스레드별로 재사용)
+    static final class Claims {
+        boolean hs512;
+        boolean hasSubject;
+        long subjectMsb;
+        long subjectLsb;
+        boolean hasSession;
+        long sessionMsb;
+        long sessionLsb;
+        long expSeconds;
+        long iatSeconds;
+        char roleCode;
+
+        Claims reset() {
+            hs512 = false;
+            hasSubject = false;
+            subjectMsb = 0;
+            subjectLsb = 0;
+            hasSession = false;
+            sessionMsb = 0;
+            sessionLsb = 0;
+            expSeconds = -1;
+            iatSeconds = -1;
+            roleCode = 0;
+            return this;
+        }
+    }
+
+    // 평평한 JSON 객체에서 알고 있는 키만 값으로 읽고 나머지는 건너뛰는 최소한의 스캐너
+    static final class ClaimsReader {
+
+        private static final byte[] ALG = {'a', 'l', 'g'};
+        private static final byte[] SUB = {'s', 'u', 'b'};
+        private static final byte[] EXP = {'e', 'x', 'p'};
+        private static final byte[] IAT = {'i', 'a', 't'};
+        private static final byte[] ROLE = {'r', 'o', 'l', 'e'};
+        private static final byte[] SID = {'s', 'i', 'd'};
+        private static final byte[] HS512 = {'H', 'S', '5', '1', '2'};
+
+        private ClaimsReader() {
+        }
+
+        static boolean read(byte[] json, int length, Claims claims) {
+            int i = skipWhitespace(json, 0, length);
+            if (i >= length || json[i] != '{') {
+                return false;
+            }
+            i = skipWhitespace(json, i + 1, length);
+            if (i < length && json[i] == '}') {
+                return true;
+            }
+            while (i < length) {
+                if (json[i] != '"') {
+                    return false;
+                }
+                int keyStart = i + 1;
+                int keyEnd = endOfString(json, i, length);
+                if (keyEnd < 0) {
+                    return false;
+                }
+                i = skipWhitespace(json, keyEnd + 1, length);
+                if (i >= length || json[i] != ':') {
+                    return false;
+                }
+                i = skipWhitespace(json, i + 1, length);
+                if (i >= length) {
+                    return false;
+                }
+
+                int valueEnd;
+                if (matches(json, keyStart, keyEnd, SUB)) {
+                    valueEnd = readUuid(json, i, length, claims, true);
+                } else if (matches(json, keyStart, keyEnd, SID)) {
+                    valueEnd = readUuid(json, i, length, claims, false);
+                } else if (matches(json, keyStart, keyEnd, EXP)) {
+                    valueEnd = readNumber(json, i, length);
+                    claims.expSeconds = valueEnd < 0 ? -1 : parseLong(json, i, valueEnd);
+                } else if (matches(json, keyStart, keyEnd, IAT)) {
+                    valueEnd = readNumber(json, i, length);
+                    claims.iatSeconds = valueEnd < 0 ? -1 : parseLong(json, i, valueEnd);
+                } else if (matches(json, keyStart, keyEnd, ROLE)) {
+                    // 한 글자 코드 문자열 ("U", "A")
+                    valueEnd = i + 2 < length && json[i] == '"' && json[i + 2] == '"' ? i + 3 : -1;
+                    claims.roleCode = valueEnd < 0 ? 0 : (char) json[i + 1];
+                } else if (matches(json, keyStart, keyEnd, ALG)) {
+                    valueEnd = json[i] == '"' ? endOfString(json, i, length) : -1;
+                    claims.hs512 = valueEnd > 0 && matches(json, i + 1, valueEnd, HS512);
+                    valueEnd = valueEnd < 0 ? -1 : valueEnd + 1;
+                } else {
+                    valueEnd = skipValue(json, i, length);
+                }
+                if (valueEnd < 0) {
+                    return false;
+                }
+
+                i = skipWhitespace(json, valueEnd, length);
+                if (i >= length) {
+                    return false;
+                }
+                if (json[i] == '}') {
+                    return true;
+                }
+                if (json[i] != ',') {
+                    return false;
+                }
+                i = skipWhitespace(json, i + 1, length);
+            }
+            return false;
+        }
+
+        // "xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx" 문자열을 String/UUID.fromString 없이 바로 두 long으로 파싱 (sub 또는 sid)
+        private static int readUuid(byte[] json, int i, int length, Claims claims, boolean subject) {
+            if (json[i] != '"' || i + 37 >= length || json[i + 37] != '"') {
+                return -1;
+            }
+            long msb = 0;
+            long lsb = 0;
+            int digits = 0;
+            for (int p = i + 1; p < i + 37; p++) {
+                int offset = p - i - 1;
+                if (offset == 8 || offset == 13 || offset == 18 || offset == 23) {
+                    if (json[p] != '-') {
+                        return -1;
+                    }
+                    continue;
+                }
+                int nibble = Character.digit(json[p], 16);
+                if (nibble < 0) {
+                    return -1;
+                }
+                if (digits++ < 16) {
+                    msb = (msb << 4) | nibble;
+                } else {
+                    lsb = (lsb << 4) | nibble;
+                }
+            }
+            if (subject) {
+                claims.subjectMsb = msb;
+                claims.subjectLsb = lsb;
+                claims.hasSubject = true;
+            } else {
+                claims.sessionMsb = msb;
+                claims.sessionLsb = lsb;
+                claims.hasSession = true;
+            }
+            return i + 38;
+        }
+
+        // 음이 아닌 정수만 허용 (NumericDate는 초 단위 정수)
+        private static int readNumber(byte[] json, int i, int length) {
+            int p = i;
+            while (p < length && json[p] >= '0' && json[p] <= '9') {
+                p++;
+            }
+            return p == i || p - i > 18 ? -1 : p;
+        }
+
+        private static long parseLong(byte[] json, int from, int to) {
+            long value = 0;
+            for (int p = from; p < to; p++) {
+                value = value * 10 + (json[p] - '0');
+            }
+            return value;
+        }
+
+        // 여는 따옴표 위치를 받아 닫는 따옴표 위치를 반환
+        private static int endOfString(byte[] json, int quote, int length) {
+            for (int p = quote + 1; p < length; p++) {
+                if (json[p] == '\\') {
+                    p++;
+                } else if (json[p] == '"') {
+                    return p;
+                }
+            }
+            return -1;
+        }
+
+        private static int skipValue(byte[] json, int i, int length) {
+            byte first = json[i];
+            if (first == '"') {
+                int end = endOfString(json, i, length);
+                return end < 0 ? -1 : end + 1;
+            }
+            if (first == '{' || first == '[') {
+                int depth = 0;
+                for (int p = i; p < length; p++) {
+                    byte b = json[p];
+                    if (b == '"') {
+                        p = endOfString(json, p, length);
+                        if (p < 0) {
+                            return -1;
+                        }
+                    } else if (b == '{' || b == '[') {
+                        depth++;
+                    } else if ((b == '}' || b == ']') && --depth == 0) {
+                        return p + 1;
+                    }
+                }
+                return -1;
+            }
+            // 숫자, true/false/null
+            int p = i;
+            while (p < length && json[p] != ',' && json[p] != '}' && json[p] != ']' && !isWhitespace(json[p])) {
+                p++;
+            }
+            return p == i ? -1 : p;
+        }
+
+        private static boolean matches(byte[] json, int from, int to, byte[] expected) {
+            if (to - from != expected.length) {
+                return false;
+            }
+            for (int k = 0; k < expected.length; k++) {
+                if (json[from + k] != expected[k]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int skipWhitespace(byte[] json, int i, int length) {
+            while (i < length && isWhitespace(json[i])) {
+                i++;
+            }
+            return i;
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.finlight.global.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 토큰 원문 대신 SHA-256 다이제스트를 키/저장값으로 쓰기 위한 유틸
+public final class TokenDigest {
+
+    // MessageDigest는 스레드 안전하지 않으므로 스레드마다 하나씩 재사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    public static byte[] sha256(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return digest.digest(token.getBytes(StandardCharsets.US_ASCII));   // JWT는 Base64URL + '.' 이므로 ASCII
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.finlight.global.auth.jwt;
+
+import com.example.finlight.domain.user.entity.Role;
+
+import java.util.UUID;
+
+// 서명 검증까지 끝난 토큰에서 필터가 실제로 쓰는 값만 담은 결과
+// sessionId는 리프레시 토큰에만 있는 기기 세션 식별자 (액세스 토큰이면 null)
+public record VerifiedToken(UUID userId, Role role, long issuedAtMillis, long expiresAtMillis, UUID sessionId) {
+
+    public VerifiedToken(UUID userId, Role role, long issuedAtMillis, long expiresAtMillis) {
+        this(userId, role, issuedAtMillis, expiresAtMillis, null);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis > expiresAtMillis;
+    }
+}
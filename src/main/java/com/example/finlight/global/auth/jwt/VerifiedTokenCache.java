@@ -0,0 +1,87 @@
+package com.example.finlight.global.auth.jwt;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 한 번 검증한 액세스 토큰의 인증 객체(userId, role, exp)를 노드 로컬에 보관 -> 같은 토큰이 다시 오면 HMAC 검증 없이 바로 사용
+// 키는 토큰 원문이 아닌 SHA-256 다이제스트(앞 128bit)라서 메모리에 토큰 자체가 남지 않는다.
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<TokenKey, JwtAuthentication> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // 캐시 히트면 인증 객체 반환, 없거나 만료됐으면 null
+    public JwtAuthentication get(String token) {
+        TokenKey key = TokenKey.of(token);
+        JwtAuthentication authentication = entries.get(key);
+        if (authentication == null) {
+            return null;
+        }
+        if (authentication.getToken().isExpired(System.currentTimeMillis())) {
+            entries.remove(key, authentication);   // 만료된 토큰은 조회 시점에 바로 제거
+            return null;
+        }
+        return authentication;
+    }
+
+    public void put(String token, JwtAuthentication authentication) {
+        if (entries.size() >= maxSize) {
+            evictExpired();
+            if (entries.size() >= maxSize) {
+                evictAny();
+            }
+        }
+        entries.put(TokenKey.of(token), authentication);
+    }
+
+    // 토큰 단위 무효화
+    public void invalidate(String token) {
+        entries.remove(TokenKey.of(token));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(authentication -> authentication.getToken().isExpired(now));
+    }
+
+    // 만료된 항목이 없는데도 가득 찼다면 임의의 일부를 비워서 상한을 지킨다 (다음 요청에서 다시 검증될 뿐이므로 안전)
+    private void evictAny() {
+        int toRemove = Math.max(1, maxSize / 10);
+        Iterator<TokenKey> it = entries.keySet().iterator();
+        while (toRemove-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    // SHA-256 다이제스트 앞 16바이트를 long 두 개로 보관 (128bit면 충돌 걱정 없음)
+    private record TokenKey(long high, long low) {
+        static TokenKey of(String token) {
+            byte[] digest = TokenDigest.sha256(token);
+            return new TokenKey(toLong(digest, 0), toLong(digest, 8));
+        }
+
+        private static long toLong(byte[] bytes, int offset) {
+            long value = 0;
+            for (int i = offset; i < offset + 8; i++) {
+                value = (value << 8) | (bytes[i] & 0xFF);
+            }
+            return value;
+        }
+    }
+}
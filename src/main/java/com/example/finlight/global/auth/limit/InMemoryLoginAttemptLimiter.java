@@ -0,0 +1,146 @@
+package com.example.finlight.global.auth.limit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// 프로세스 안에서만 시도 횟수를 보관하는 LoginAttemptLimiter (auth.login-limit.store=memory)
+// 키 해시로 고른 stripe 하나만 잠그므로 서로 다른 IP/username의 로그인끼리는 경합하지 않는다.
+// stripe마다 최근에 쓴 순서로 상한(max-keys / STRIPES)까지만 보관 -> 무작위 IP/username으로 밀어붙여도 메모리는 일정
+@Component
+@ConditionalOnProperty(name = "auth.login-limit.store", havingValue = "memory")
+public class InMemoryLoginAttemptLimiter implements LoginAttemptLimiter {
+
+    private static final int STRIPES = 64;   // 2의 거듭제곱 (해시 마스킹)
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final LongSupplier clock;
+
+    @Autowired
+    public InMemoryLoginAttemptLimiter(@Value("${auth.login-limit.max-keys:100000}") int maxKeys) {
+        this(maxKeys, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시계를 직접 돌리기 위한 생성자
+    InMemoryLoginAttemptLimiter(int maxKeys, LongSupplier clock) {
+        this.clock = clock;
+        int keysPerStripe = Math.max(1, maxKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(keysPerStripe);
+        }
+    }
+
+    @Override
+    public long tryAcquire(String key, int limit, Duration window) {
+        long now = clock.getAsLong();
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.computeIfAbsent(key, k -> new Window()).tryAcquire(now, window.toMillis(), limit);
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    @Override
+    public void release(String key, Duration window) {
+        long now = clock.getAsLong();
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window attempts = stripe.get(key);
+            if (attempts != null) {
+                attempts.release(now, window.toMillis());
+            }
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    // 접근 순서 LinkedHashMap - 상한을 넘으면 가장 오래 안 쓴 키부터 버림 (버려진 키는 처음부터 다시 셈)
+    private static final class Stripe extends LinkedHashMap<String, Window> {
+        private final int maxKeys;
+
+        Stripe(int maxKeys) {
+            super(16, 0.75f, true);
+            this.maxKeys = maxKeys;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+            return size() > maxKeys;
+        }
+    }
+
+    // 고정 윈도우 두 개로 근사한 슬라이딩 윈도우 (redis/login_attempt.lua와 같은 계산)
+    private static final class Window {
+        private long index = -1;   // 현재 고정 윈도우 번호 (now / window)
+        private int current;       // 현재 윈도우의 시도 수
+        private int previous;      // 직전 윈도우의 시도 수
+
+        long tryAcquire(long now, long windowMillis, int limit) {
+            long nowIndex = advance(now, windowMillis);
+            // 소수 오차가 없도록 윈도우 길이를 곱한 정수로 계산: previous x (남은 비율) + current + 1 <= limit
+            long elapsed = now - nowIndex * windowMillis;
+            long remaining = windowMillis - elapsed;
+            if (previous * remaining + (current + 1L) * windowMillis <= limit * windowMillis) {
+                current++;
+                return 0;
+            }
+            if (current >= limit) {
+                // 이번 윈도우만으로 가득 참 -> 다음 윈도우에서 이번 횟수의 가중치가 충분히 줄어들 때까지
+                return remaining + ceilDiv(windowMillis * (current - limit + 1L), current);
+            }
+            // 직전 윈도우의 가중치가 줄어들면 가능
+            long at = ceilDiv(windowMillis * (previous - (limit - 1L - current)), previous);
+            return Math.max(1, at - elapsed);
+        }
+
+        // 기록한 시도는 현재 윈도우에 있고, 그 사이 윈도우가 넘어갔으면 직전 윈도우로 옮겨져 있음
+        void release(long now, long windowMillis) {
+            advance(now, windowMillis);
+            if (current > 0) {
+                current--;
+            } else if (previous > 0) {
+                previous--;
+            }
+        }
+
+        private long advance(long now, long windowMillis) {
+            long nowIndex = now / windowMillis;
+            if (nowIndex != index) {
+                previous = nowIndex == index + 1 ? current : 0;
+                current = 0;
+                index = nowIndex;
+            }
+            return nowIndex;
+        }
+
+        private static long ceilDiv(long dividend, long divisor) {
+            return (dividend + divisor - 1) / divisor;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.finlight.global.auth.limit;
+
+import java.time.Duration;
+
+// 로그인 시도 횟수 제한 저장소 - 키(IP, username)별 슬라이딩 윈도우
+// auth.login-limit.store=redis(기본) | memory 로 구현체 선택
+//   redis  - 여러 노드가 시도 횟수를 공유 (RedisLoginAttemptLimiter)
+//   memory - 단일 노드/테스트용, 네트워크 왕복 없음 (InMemoryLoginAttemptLimiter)
+// 윈도우는 "직전 고정 윈도우 횟수 x 겹친 비율 + 현재 윈도우 횟수"로 근사 -> 키마다 숫자 세 개만 보관
+public interface LoginAttemptLimiter {
+
+    // 시도 하나를 기록하고 0 반환. 이미 limit에 도달했으면 기록하지 않고 다음 시도가 가능해질 때까지 남은 시간(ms) 반환
+    long tryAcquire(String key, int limit, Duration window);
+
+    // 로그인 성공 등으로 키의 기록을 지움
+    void reset(String key);
+
+    // 기록한 시도 하나를 되돌림 (성공한 로그인은 IP 한도에서 빼기 위해) - 기록이 없으면 아무것도 하지 않음
+    void release(String key, Duration window);
+}
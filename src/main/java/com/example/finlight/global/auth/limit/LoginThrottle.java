@@ -0,0 +1,88 @@
+package com.example.finlight.global.auth.limit;
+
+import com.example.finlight.global.exception.ErrorCode;
+import com.example.finlight.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+// 일반 로그인 무차별 대입 방어 - JwtLoginFilter가 사용자 조회/BCrypt 검증 전에 호출
+// IP별(여러 계정을 돌려 막는 크리덴셜 스터핑)과 username별(한 계정을 여러 IP에서 공격) 시도 수를 따로 제한
+// 초과하면 429 + Retry-After, 로그인에 성공하면 그 username의 기록은 지우고 IP 쪽은 그 시도 하나를 되돌림
+// (IP 한도는 실패한 시도만 세는 셈 - 같은 IP 뒤의 정상 사용자들이 로그인할수록 한도가 차지 않도록)
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final LoginAttemptLimiter limiter;
+    private final int perIp;
+    private final int perUsername;
+    private final Duration window;
+    private final Counter rejectedIp;
+    private final Counter rejectedUsername;
+
+    @Autowired
+    public LoginThrottle(LoginAttemptLimiter limiter,
+                         @Value("${auth.login-limit.per-ip:100}") int perIp,
+                         @Value("${auth.login-limit.per-username:10}") int perUsername,
+                         @Value("${auth.login-limit.window:5m}") Duration window,
+                         MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.perIp = perIp;
+        this.perUsername = perUsername;
+        this.window = window;
+        this.rejectedIp = Counter.builder("auth.login.throttled").tag("scope", "ip").register(meterRegistry);
+        this.rejectedUsername = Counter.builder("auth.login.throttled").tag("scope", "username").register(meterRegistry);
+    }
+
+    // IP가 이미 초과면 username 쪽은 세지 않음 (공격 IP가 남의 계정을 잠그는 것을 줄임)
+    public void check(String ip, String username) {
+        long waitMillis = limiter.tryAcquire(ipKey(ip), perIp, window);
+        if (waitMillis > 0) {
+            rejectedIp.increment();
+            throw exceeded(waitMillis);
+        }
+        waitMillis = limiter.tryAcquire(usernameKey(username), perUsername, window);
+        if (waitMillis > 0) {
+            rejectedUsername.increment();
+            throw exceeded(waitMillis);
+        }
+    }
+
+    // 로그인은 이미 성공했으므로 기록 삭제 실패(저장소 장애)로 응답을 막지 않음 - 남은 기록은 윈도우가 지나면 사라짐
+    public void succeeded(String ip, String username) {
+        try {
+            limiter.release(ipKey(ip), window);
+            limiter.reset(usernameKey(username));
+        } catch (ServiceUnavailableException e) {
+            log.warn("로그인 시도 기록 정리 실패 - {}", e.getMessage());
+        }
+    }
+
+    private static String ipKey(String ip) {
+        return "ip:" + ip;
+    }
+
+    // username은 요청 본문의 이메일 그대로라 길이 제한이 없음 -> SHA-256(Base64URL 43자)으로 키 길이를 고정
+    static String usernameKey(String username) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(username.getBytes(StandardCharsets.UTF_8));
+            return "user:" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static ServiceUnavailableException exceeded(long waitMillis) {
+        return new ServiceUnavailableException(ErrorCode.LOGIN_ATTEMPTS_EXCEEDED, Duration.ofMillis(waitMillis));
+    }
+}
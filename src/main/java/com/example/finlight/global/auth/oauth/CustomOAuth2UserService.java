@@ -2,17 +2,22 @@ package com.example.finlight.global.auth.oauth;
 
 import com.example.finlight.domain.user.entity.User;
 import com.example.finlight.domain.user.repository.UserRepository;
+import com.example.finlight.domain.user.service.UserAvailabilityService;
 import com.example.finlight.global.auth.PrincipalDetails;
 import com.example.finlight.global.dto.oauth.GoogleResponse;
 import com.example.finlight.global.dto.oauth.KakaoResponse;
 import com.example.finlight.global.dto.oauth.OAuth2Response;
+import com.example.finlight.global.util.UuidV7;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
 // OAuth2 사용자 정보 로딩 -> 최종적으로 OAuth2User를 반환해야 함 -> OAuth2User로 username을 생성하고 username을 통해 User를 DB에서 조회 -> 없다면 새로 유저 등록, 있다면 PrincipalDetails로 감싸서 반환
 @Slf4j
@@ -20,11 +25,17 @@ import org.springframework.stereotype.Service;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserAvailabilityService userAvailabilityService;
 
-    public CustomOAuth2UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public CustomOAuth2UserService(UserRepository userRepository, UserAvailabilityService userAvailabilityService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.userAvailabilityService = userAvailabilityService;
+    }
+
+    // 사용자 정보 조회를 커넥션 풀/타임아웃/지표가 있는 클라이언트로 (OAuth2ClientConfig)
+    @Autowired
+    public void setProviderRestTemplate(@Qualifier("oauth2UserInfoRestTemplate") RestTemplate restTemplate) {
+        setRestOperations(restTemplate);
     }
 
     protected OAuth2User loadUserFromProvider(OAuth2UserRequest request) {
@@ -56,20 +67,32 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         String username = provider + "_" + oAuth2Response.getProviderId();
 
-        // 기존 유저 찾기
-        User user = userRepository.findByUsername(username).orElse(null);
-        
-        // 없으면 새로 저장
+        // 기존 유저 찾기 - Bloom filter에 없으면 확실히 신규라서 조회 생략, 있으면 natural id 캐시를 거쳐 조회
+        User user = userAvailabilityService.mightBeTaken(username)
+                ? userRepository.findByUsername(username).orElse(null)
+                : null;
+
+        // 없으면 INSERT ... ON CONFLICT (username) DO NOTHING 한 문장으로 저장 (비밀번호는 해싱 없이 고정값)
         if (user == null) {
-            user = User.createOAuthUser(
+            User candidate = User.createOAuthUser(
+                    UuidV7.next(),
                     oAuth2Response.getEmail(),
                     oAuth2Response.getNickname(),
-                    username,
-                    passwordEncoder.encode("oauth2")  // 더미 PW
+                    username
             );
-            System.out.println("[OAUTH] before save username=" + user.getUsername());
-            userRepository.save(user);
-            System.out.println("[OAUTH] saved id=" + user.getId() + ", saved username=" + user.getUsername());
+            try {
+                if (userRepository.insertIfAbsent(candidate)) {
+                    user = candidate;
+                    userAvailabilityService.record(user.getUsername(), user.getNickname());   // 닉네임 중복 확인용 필터에도 반영
+                    log.debug("[OAUTH] saved id={}, username={}", user.getId(), user.getUsername());
+                } else {
+                    // 로그인 버튼 연타 등으로 동시 요청이 먼저 저장함 - 그 사용자를 그대로 사용 (방금 저장된 행이라 복제본 대신 primary에서)
+                    user = userRepository.findByUsernameOnPrimary(username)
+                            .orElseThrow(() -> new OAuth2AuthenticationException("소셜 회원 정보를 찾을 수 없습니다."));
+                }
+            } catch (DataIntegrityViolationException e) {
+                throw new OAuth2AuthenticationException("이미 사용 중인 닉네임입니다.");
+            }
         }
 
         log.debug("[OAUTH] end loadUser");
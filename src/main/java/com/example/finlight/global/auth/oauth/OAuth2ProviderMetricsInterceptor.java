@@ -0,0 +1,90 @@
+package com.example.finlight.global.auth.oauth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+// OAuth 제공자(구글/카카오) 호출마다 지연 시간과 오류를 제공자/엔드포인트별로 기록
+//   auth.oauth.provider.requests{provider, endpoint, status} - 응답 헤더까지의 지연 시간 히스토그램
+//   auth.oauth.provider.errors{provider, endpoint, reason}   - reason = timeout(연결/응답/풀 대기) | io | 4xx | 5xx
+// 요청 URI를 등록 정보의 token-uri / user-info-uri와 맞춰서 제공자를 구분한다.
+public class OAuth2ProviderMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Endpoint UNKNOWN = new Endpoint("unknown", "unknown");
+
+    private final Map<String, Endpoint> endpoints = new HashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public OAuth2ProviderMetricsInterceptor(Iterable<ClientRegistration> registrations, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (ClientRegistration registration : registrations) {
+            ClientRegistration.ProviderDetails details = registration.getProviderDetails();
+            register(details.getTokenUri(), new Endpoint(registration.getRegistrationId(), "token"));
+            register(details.getUserInfoEndpoint().getUri(), new Endpoint(registration.getRegistrationId(), "userinfo"));
+        }
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        Endpoint endpoint = endpoints.getOrDefault(key(request.getURI()), UNKNOWN);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int code = response.getStatusCode().value();
+            status = String.valueOf(code);
+            if (code >= 400) {
+                error(endpoint, code >= 500 ? "5xx" : "4xx");
+            }
+            return response;
+        } catch (InterruptedIOException e) {
+            // 연결/응답 타임아웃, 커넥션 풀 대기 시간 초과 모두 여기로
+            error(endpoint, "timeout");
+            throw e;
+        } catch (IOException e) {
+            error(endpoint, "io");
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.oauth.provider.requests")
+                    .tag("provider", endpoint.provider())
+                    .tag("endpoint", endpoint.name())
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private void error(Endpoint endpoint, String reason) {
+        Counter.builder("auth.oauth.provider.errors")
+                .tag("provider", endpoint.provider())
+                .tag("endpoint", endpoint.name())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void register(String uri, Endpoint endpoint) {
+        if (uri != null && !uri.isBlank()) {
+            endpoints.put(key(URI.create(uri)), endpoint);
+        }
+    }
+
+    // 쿼리 스트링은 빼고 host:port/path로 비교
+    private static String key(URI uri) {
+        return uri.getHost() + ":" + uri.getPort() + uri.getPath();
+    }
+
+    private record Endpoint(String provider, String name) {
+    }
+}
@@ -2,7 +2,9 @@ package com.example.finlight.global.auth.oauth;
 
 import com.example.finlight.global.auth.jwt.JwtUtil;
 import com.example.finlight.global.auth.PrincipalDetails;
-import com.example.finlight.global.redis.RefreshTokenService;
+import com.example.finlight.global.auth.refresh.RefreshTokenStore;
+import com.example.finlight.global.exception.ErrorResponseWriter;
+import com.example.finlight.global.exception.ServiceUnavailableException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,18 +24,25 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
     private final JwtUtil jwtUtil;
-    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws ServletException, IOException {
         PrincipalDetails principal = (PrincipalDetails) authentication.getPrincipal();   // PrincipalDetails에서 사용자 정보를 꺼냄. PrincipalDetails - 인증된 사용자 정보를 담아 SecurityContext에 저장되는 객체
-        String accessToken = jwtUtil.createAccessToken(principal.getUser().getId());
-        String refreshToken = jwtUtil.createRefreshToken(principal.getUser().getId());
+        String accessToken = jwtUtil.createAccessToken(principal.getUser().getId(), principal.getUser().getRole());
+        UUID sessionId = UUID.randomUUID();   // 로그인마다 새 기기 세션
+        String refreshToken = jwtUtil.createRefreshToken(principal.getUser().getId(), sessionId);
         Duration refreshTtl = jwtUtil.getRefreshTtl();
 
-        // Redis에 Refresh Token을 저장
-        refreshTokenService.save(principal.getUser().getId(), refreshToken, refreshTtl);
+        // Redis에 Refresh Token을 기기 세션 단위로 저장 (다른 기기의 세션은 유지됨)
+        try {
+            refreshTokenStore.save(principal.getUser().getId(), sessionId, refreshToken, refreshTtl);
+        } catch (ServiceUnavailableException e) {
+            // Redis 장애 - 토큰을 발급하지 않고 빨리 실패 (클라이언트는 Retry-After 후 재시도)
+            ErrorResponseWriter.writeRetryLater(response, e);
+            return;
+        }
 
         // Refresh Token -> HttpOnly 쿠키로 전달
         ResponseCookie refreshTokenCookie = ResponseCookie.from("refreshToken", refreshToken)
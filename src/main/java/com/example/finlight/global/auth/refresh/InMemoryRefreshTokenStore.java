@@ -0,0 +1,243 @@
+package com.example.finlight.global.auth.refresh;
+
+import com.example.finlight.global.auth.jwt.TokenDigest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// 프로세스 안에서만 세션을 보관하는 RefreshTokenStore (auth.refresh.store=memory)
+// 단일 노드, 테스트, 부하 테스트용 - 재발급/로그아웃에 네트워크 왕복이 없다. 노드 간 공유되지 않고 재시작하면 사라짐
+// 만료는 항목별 타이머 대신 타이밍 휠 하나로 처리하고, 조회 시점에도 만료 시각을 다시 확인한다(휠은 메모리 회수 역할).
+// 휠에는 세션당 항목 하나만 둔다 - 로테이션은 세션의 만료 시각만 늘리고, 항목이 꺼냈을 때 연장돼 있으면 새 만료 시각으로 다시 넣음
+@Component
+@ConditionalOnProperty(name = "auth.refresh.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final long TICK_MILLIS = 1000;
+
+    private final Map<UUID, UserSessions> users = new ConcurrentHashMap<>();
+    private final TimingWheel<Expiry> wheel;
+    private final int maxSessions;
+    private final long reuseGraceMillis;
+    private final LongSupplier clock;
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public InMemoryRefreshTokenStore(@Value("${auth.refresh.max-sessions:5}") int maxSessions,
+                                     @Value("${auth.refresh.reuse-grace:5s}") Duration reuseGrace) {
+        this(maxSessions, reuseGrace, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시계를 직접 돌리기 위한 생성자
+    InMemoryRefreshTokenStore(int maxSessions, Duration reuseGrace, LongSupplier clock) {
+        this.maxSessions = maxSessions;
+        this.reuseGraceMillis = reuseGrace.toMillis();
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, clock.getAsLong());
+    }
+
+    @PostConstruct
+    void startTicker() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::expireDue, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopTicker() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @Override
+    public void save(UUID userId, UUID sessionId, String refreshToken, Duration ttl) {
+        long now = clock.getAsLong();
+        long expiresAt = now + ttl.toMillis();
+        Session session = new Session(TokenDigest.sha256(refreshToken), expiresAt, null, 0);
+        users.compute(userId, (id, sessions) -> {
+            UserSessions target = sessions == null ? new UserSessions() : sessions;
+            target.put(sessionId, session, now, maxSessions);
+            return target;
+        });
+        wheel.schedule(new Expiry(userId, sessionId), expiresAt);
+    }
+
+    @Override
+    public boolean verifyRefreshToken(UUID userId, UUID sessionId, String providedToken) {
+        UserSessions sessions = users.get(userId);
+        return sessions != null && sessions.matches(sessionId, TokenDigest.sha256(providedToken), clock.getAsLong());
+    }
+
+    @Override
+    public boolean verifyRefreshToken(UUID userId, String providedToken) {
+        UserSessions sessions = users.get(userId);
+        return sessions != null && sessions.matchesAny(TokenDigest.sha256(providedToken), clock.getAsLong());
+    }
+
+    @Override
+    public RotationResult rotate(UUID userId, UUID sessionId, String currentToken, String newToken, Duration ttl) {
+        UserSessions sessions = users.get(userId);
+        if (sessions == null) {
+            return RotationResult.MISMATCH;
+        }
+        long now = clock.getAsLong();
+        long expiresAt = now + ttl.toMillis();
+        byte[] currentDigest = TokenDigest.sha256(currentToken);
+        RotationResult result = sessions.rotate(sessionId, currentDigest,
+                new Session(TokenDigest.sha256(newToken), expiresAt, currentDigest, now), now, reuseGraceMillis);
+        if (result != RotationResult.ROTATED) {
+            dropIfEmpty(userId);
+        }
+        return result;   // 휠 항목은 그대로 - 꺼낼 때 연장된 만료 시각으로 다시 넣음
+    }
+
+    @Override
+    public void delete(UUID userId, UUID sessionId) {
+        UserSessions sessions = users.get(userId);
+        if (sessions != null) {
+            sessions.remove(sessionId);
+            dropIfEmpty(userId);
+        }
+    }
+
+    @Override
+    public void delete(UUID userId) {
+        users.remove(userId);
+    }
+
+    // 시계를 현재 시각까지 돌려 만료된 세션을 제거 (ticker 스레드가 1초마다 호출)
+    void expireDue() {
+        long now = clock.getAsLong();
+        Map<Expiry, Long> rescheduled = new HashMap<>();
+        wheel.advance(now, expiry -> {
+            UserSessions sessions = users.get(expiry.userId());
+            if (sessions == null) {
+                return;
+            }
+            long expiresAt = sessions.expire(expiry.sessionId(), now);
+            if (expiresAt > 0) {
+                rescheduled.put(expiry, expiresAt);   // 로테이션으로 연장된 세션
+            } else {
+                dropIfEmpty(expiry.userId());
+            }
+        });
+        rescheduled.forEach(wheel::schedule);   // advance가 끝난 뒤에 다시 넣음
+    }
+
+    int userCount() {
+        return users.size();
+    }
+
+    int scheduledExpiries() {
+        return wheel.size();
+    }
+
+    // 비어 있는 사용자 항목은 제거 (같은 키에 대한 save의 compute와 원자적으로)
+    private void dropIfEmpty(UUID userId) {
+        users.computeIfPresent(userId, (id, sessions) -> sessions.isEmpty() ? null : sessions);
+    }
+
+    // previousDigest/rotatedAt - 직전 토큰과 교체 시각 (동시 재발급에서 진 요청을 재사용으로 오인하지 않도록)
+    private record Session(byte[] digest, long expiresAt, byte[] previousDigest, long rotatedAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private record Expiry(UUID userId, UUID sessionId) {
+    }
+
+    // 한 사용자의 기기 세션들 - 오래 안 쓴 순서로 유지 (저장/로테이션 때마다 맨 뒤로)
+    private static final class UserSessions {
+        private final LinkedHashMap<UUID, Session> sessions = new LinkedHashMap<>();
+
+        synchronized void put(UUID sessionId, Session session, long now, int maxSessions) {
+            sessions.values().removeIf(s -> s.isExpired(now));
+            sessions.remove(sessionId);
+            sessions.put(sessionId, session);
+            Iterator<UUID> oldest = sessions.keySet().iterator();
+            while (sessions.size() > maxSessions && oldest.hasNext()) {
+                oldest.next();
+                oldest.remove();
+            }
+        }
+
+        synchronized boolean matches(UUID sessionId, byte[] digest, long now) {
+            Session session = sessions.get(sessionId);
+            return session != null && !session.isExpired(now) && MessageDigest.isEqual(session.digest(), digest);
+        }
+
+        synchronized boolean matchesAny(byte[] digest, long now) {
+            boolean matched = false;
+            for (Session session : sessions.values()) {
+                matched |= !session.isExpired(now) & MessageDigest.isEqual(session.digest(), digest);
+            }
+            return matched;
+        }
+
+        synchronized RotationResult rotate(UUID sessionId, byte[] currentDigest, Session next, long now, long reuseGraceMillis) {
+            Session stored = sessions.get(sessionId);
+            if (stored == null) {
+                return RotationResult.MISMATCH;
+            }
+            if (stored.isExpired(now)) {
+                sessions.remove(sessionId);
+                return RotationResult.MISMATCH;
+            }
+            if (!MessageDigest.isEqual(stored.digest(), currentDigest)) {
+                // 동시 재발급에서 진 요청(탭 두 개, 앱 재시도)은 방금 교체된 토큰을 보냄 -> 이 요청만 실패, 세션은 유지
+                if (stored.previousDigest() != null && MessageDigest.isEqual(stored.previousDigest(), currentDigest)
+                        && now - stored.rotatedAt() <= reuseGraceMillis) {
+                    return RotationResult.MISMATCH;
+                }
+                // 그보다 오래된 토큰이 다시 들어옴 = 탈취 의심 -> 세션 폐기
+                sessions.remove(sessionId);
+                return RotationResult.REUSE_DETECTED;
+            }
+            sessions.remove(sessionId);   // 맨 뒤로 (최근 사용)
+            sessions.put(sessionId, next);
+            return RotationResult.ROTATED;
+        }
+
+        synchronized void remove(UUID sessionId) {
+            sessions.remove(sessionId);
+        }
+
+        // 만료됐으면 제거하고 0, 로테이션으로 연장됐으면 유지하고 새 만료 시각 반환 (세션이 이미 없으면 0)
+        synchronized long expire(UUID sessionId, long now) {
+            Session session = sessions.get(sessionId);
+            if (session == null) {
+                return 0;
+            }
+            if (session.isExpired(now)) {
+                sessions.remove(sessionId);
+                return 0;
+            }
+            return session.expiresAt();
+        }
+
+        synchronized boolean isEmpty() {
+            return sessions.isEmpty();
+        }
+    }
+}
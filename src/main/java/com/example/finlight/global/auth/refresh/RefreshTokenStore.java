@@ -0,0 +1,30 @@
+package com.example.finlight.global.auth.refresh;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// 기기 세션(sid) 단위 리프레시 토큰 저장소
+// auth.refresh.store=redis(기본) | memory 로 구현체 선택
+//   redis  - 여러 노드가 세션을 공유 (RedisRefreshTokenStore)
+//   memory - 단일 노드/테스트/부하 테스트용, 네트워크 왕복 없음 (InMemoryRefreshTokenStore)
+public interface RefreshTokenStore {
+
+    // 로그인 시 새 기기 세션 저장 (TTL은 refresh 토큰 만료와 동일하게), 최대 세션 수를 넘으면 가장 오래 안 쓴 기기가 밀려남
+    void save(UUID userId, UUID sessionId, String refreshToken, Duration ttl);
+
+    // 해당 기기 세션의 토큰과 일치하는지 확인
+    boolean verifyRefreshToken(UUID userId, UUID sessionId, String providedToken);
+
+    // 사용자의 어느 기기 세션이든 이 토큰과 일치하는지 확인
+    boolean verifyRefreshToken(UUID userId, String providedToken);
+
+    // 세션의 토큰이 currentToken일 때만 newToken으로 교체하고 TTL을 다시 설정
+    // 같은 세션의 이전 토큰이 다시 오면(재사용) 그 세션을 폐기한다.
+    RotationResult rotate(UUID userId, UUID sessionId, String currentToken, String newToken, Duration ttl);
+
+    // 기기 하나 로그아웃
+    void delete(UUID userId, UUID sessionId);
+
+    // 모든 기기 로그아웃
+    void delete(UUID userId);
+}
@@ -0,0 +1,8 @@
+package com.example.finlight.global.auth.refresh;
+
+// 리프레시 토큰 로테이션 결과
+public enum RotationResult {
+    ROTATED,          // 새 토큰으로 교체됨
+    MISMATCH,         // 세션이 없거나 만료됨 (로그아웃, 기기 수 초과로 밀려남 등), 또는 유예 시간 안의 직전 토큰 (동시 재발급에서 진 요청)
+    REUSE_DETECTED    // 유예 시간이 지난 이전 토큰이 다시 사용됨 -> 해당 세션 폐기
+}
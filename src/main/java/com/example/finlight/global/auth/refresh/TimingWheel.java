@@ -0,0 +1,105 @@
+package com.example.finlight.global.auth.refresh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 계층형 타이밍 휠 - 항목마다 타이머를 두지 않고, 만료 시각을 슬롯에 넣어 두었다가 시계가 지나가면 한꺼번에 꺼낸다.
+// 레벨마다 64칸이고, 상위 레벨의 한 칸은 하위 레벨 한 바퀴 (tick이 1초면 64초 / 약 68분 / 약 73시간 / 약 194일)
+// 상위 레벨 칸에 시계가 도달하면 그 칸의 항목을 남은 시간에 맞는 하위 레벨로 내려보낸다(cascade).
+// schedule/advance 모두 항목 수와 무관하게 O(1)이고 (만료된 항목을 꺼내는 비용 제외), 스레드 안전을 위해 synchronized
+final class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (BITS * LEVELS);   // 이보다 먼 항목은 최상위 레벨에서 한 바퀴씩 다시 배치
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final List<List<Entry<T>>> slots = new ArrayList<>(LEVELS * SLOTS);
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long tickMillis, long originMillis) {
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    // deadlineMillis가 지난 뒤의 advance에서 item이 만료 대상으로 나온다 (이미 지났으면 다음 tick에)
+    synchronized void schedule(T item, long deadlineMillis) {
+        long deadlineTick = Math.max(currentTick + 1, ceilDiv(deadlineMillis - originMillis, tickMillis));
+        place(new Entry<>(item, deadlineTick));
+        size++;
+    }
+
+    // 현재 시각까지 시계를 돌리면서 만료된 항목을 expired로 넘김
+    synchronized void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = (nowMillis - originMillis) / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Entry<T>> due = slot(0, (int) (currentTick & MASK));
+            for (Entry<T> entry : due) {
+                expired.accept(entry.item);
+            }
+            size -= due.size();
+            due.clear();
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    // 하위 레벨이 한 바퀴 돌 때마다 상위 레벨의 현재 칸을 비워서 다시 배치
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) {
+                return;
+            }
+            List<Entry<T>> bucket = slot(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            List<Entry<T>> moving = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Entry<T> entry : moving) {
+                place(entry);
+            }
+        }
+    }
+
+    private void place(Entry<T> entry) {
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            // cascade 도중 이미 만료 시각이 된 항목은 이번 tick에 바로 꺼내지도록 현재 칸에
+            slot(0, (int) (currentTick & MASK)).add(entry);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (BITS * (level + 1))) {
+                slot(level, (int) ((entry.deadlineTick >>> (BITS * level)) & MASK)).add(entry);
+                return;
+            }
+        }
+        // 최대 범위를 넘는 항목은 최상위 레벨의 가장 먼 칸에 두었다가 cascade 때 다시 배치
+        long parked = currentTick + MAX_SPAN - 1;
+        slot(LEVELS - 1, (int) ((parked >>> (BITS * (LEVELS - 1))) & MASK)).add(entry);
+    }
+
+    private List<Entry<T>> slot(int level, int index) {
+        return slots.get(level * SLOTS + index);
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.finlight.global.auth.route;
+
+import org.springframework.http.HttpMethod;
+
+// 인증 없이 접근 가능한 경로 목록
+// SecurityConfig의 permitAll 설정과 JwtAuthenticationFilter의 스킵 판단이 같은 목록을 보도록 한 곳에서 관리
+public final class PublicRoutes {
+
+    // 스웨거 문서
+    public static final String[] SWAGGER = {"/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**"};
+
+    // 메소드와 상관없이 공개
+    public static final String[] ANY_METHOD = {"/", "/api/users", "/oauth2/**", "/login"};
+
+    // POST만 공개 - 일반 회원가입, 토큰 재발행
+    public static final String[] POST_ONLY = {"/api/users", "/api/users/refresh"};
+
+    // GET만 공개 - 가입 폼 중복 확인
+    public static final String[] GET_ONLY = {"/api/users/availability"};
+
+    // 위 목록을 한 번만 컴파일해 둔 라우트 테이블
+    private static final RouteTable TABLE = RouteTable.builder()
+            .anyMethod(SWAGGER)
+            .anyMethod(ANY_METHOD)
+            .method(HttpMethod.POST, POST_ONLY)
+            .method(HttpMethod.GET, GET_ONLY)
+            .build();
+
+    private PublicRoutes() {
+    }
+
+    public static RouteTable table() {
+        return TABLE;
+    }
+}
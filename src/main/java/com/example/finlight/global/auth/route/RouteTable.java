@@ -0,0 +1,122 @@
+package com.example.finlight.global.auth.route;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 경로 패턴을 문자 단위 트라이로 미리 컴파일해서, 요청 경로를 한 번 훑는 것만으로 공개 경로인지 판단
+// 지원 패턴: 정확히 일치("/login"), 하위 전체("/oauth2/**" -> "/oauth2", "/oauth2/..." 모두 일치)
+// 요청마다 AntPathMatcher처럼 패턴 문자열을 다시 해석하거나 부분 문자열을 만들지 않는다.
+public final class RouteTable {
+
+    private final Node anyMethod;
+    private final Map<String, Node> byMethod;
+
+    private RouteTable(Node anyMethod, Map<String, Node> byMethod) {
+        this.anyMethod = anyMethod;
+        this.byMethod = byMethod;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean matches(String method, String path) {
+        if (anyMethod.matches(path)) {
+            return true;
+        }
+        Node root = byMethod.get(method);
+        return root != null && root.matches(path);
+    }
+
+    public static final class Builder {
+        private final Node anyMethod = new Node();
+        private final Map<String, Node> byMethod = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder anyMethod(String... patterns) {
+            for (String pattern : patterns) {
+                anyMethod.add(pattern);
+            }
+            return this;
+        }
+
+        public Builder method(HttpMethod method, String... patterns) {
+            Node root = byMethod.computeIfAbsent(method.name(), m -> new Node());
+            for (String pattern : patterns) {
+                root.add(pattern);
+            }
+            return this;
+        }
+
+        public RouteTable build() {
+            return new RouteTable(anyMethod, Map.copyOf(byMethod));
+        }
+    }
+
+    // 트라이 노드 - 자식은 정렬된 문자 배열 + 이진 탐색
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean exact;      // 여기서 끝나는 경로가 정확히 일치
+        private boolean subtree;    // 이 지점 이후 "/..." 또는 끝이면 일치 ("/**" 패턴)
+
+        void add(String pattern) {
+            boolean wildcard = pattern.endsWith("/**");
+            String literal = wildcard ? pattern.substring(0, pattern.length() - 3) : pattern;
+            Node node = this;
+            for (int i = 0; i < literal.length(); i++) {
+                node = node.childOrCreate(literal.charAt(i));
+            }
+            if (wildcard) {
+                node.subtree = true;
+            } else {
+                node.exact = true;
+            }
+        }
+
+        boolean matches(String path) {
+            Node node = this;
+            int length = path.length();
+            for (int i = 0; i < length; i++) {
+                if (node.subtree && path.charAt(i) == '/') {
+                    return true;
+                }
+                node = node.child(path.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+            return node.exact || node.subtree;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node created = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = created;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+            return created;
+        }
+    }
+}
@@ -1,15 +1,51 @@
 package com.example.finlight.global.config;
 
+import com.example.finlight.global.auth.BoundedPasswordEncoder;
+import com.example.finlight.global.auth.PasswordHashCalibrator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
 @Configuration
+@EnableScheduling   // 닉네임/아이디 Bloom filter 주기적 갱신 등
 public class AppConfig {
     // securityConfig -> customOAuth2UserService -> securityConfig 순환 참조 방지를 위해 별도의 설정 파일로 아래의 빈을 분리
+    // 저장 형식은 "{bcrypt}$2a$.." 처럼 알고리즘 id를 앞에 붙임 -> 강도나 알고리즘을 바꿔도 기존 해시는 그대로 검증되고,
+    // 로그인 성공 시 PrincipalDetailsService(UserDetailsPasswordService)가 새 설정으로 다시 해싱해 저장함
+    // 강도는 모든 노드가 같은 설정값으로 고정 - 노드마다 시작 시 잰 값을 쓰면 재시작마다 강도가 달라지고,
+    // upgradeEncoding은 저장된 강도가 낮을 때만 다시 해싱하므로 가장 빠르게 잰 노드의 강도로 전체 사용자가 계속 재해싱됨
+    // 보정은 이 노드 기준 권장값을 로그로만 알림 (강도를 바꿀 때 참고)
+    // 해싱/검증은 전용 스레드 풀에서만 실행 (요청 스레드가 CPU 작업에 묶이지 않도록, 넘치면 429)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:12}") int strength,
+                                           @Value("${auth.password.suggest-strength:true}") boolean suggestStrength,
+                                           @Value("${auth.password.target-hash-time:250ms}") Duration targetHashTime,
+                                           @Value("${auth.password.hash-threads:0}") int threads,
+                                           @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                                           @Value("${auth.password.retry-after:1s}") Duration retryAfter,
+                                           MeterRegistry meterRegistry) {
+        if (suggestStrength) {
+            int suggested = PasswordHashCalibrator.bcryptStrength(targetHashTime, 10, 16);
+            if (suggested != strength) {
+                log.warn("BCrypt 강도 설정 {}이(가) 이 노드의 권장값 {}과(와) 다릅니다. (목표 {}ms, 적용하지 않음)",
+                        strength, suggested, targetHashTime.toMillis());
+            }
+        }
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());   // id 없이 저장된 기존 해시 검증용
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(encoder, poolSize, queueCapacity, retryAfter, meterRegistry);
     }
 }
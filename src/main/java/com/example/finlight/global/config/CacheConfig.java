@@ -0,0 +1,62 @@
+package com.example.finlight.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// User 엔티티 2차 캐시 (Hibernate JCache + Caffeine)
+// 로그인(username 조회)과 /me(id 조회)가 매번 DB를 치지 않도록 노드 로컬에 보관
+//   users             : id -> User 엔티티 상태
+//   users-by-username : username(natural id) -> id
+// 크기/TTL 상한이 있어 메모리는 bounded, 적중률은 cache.gets{cache=users,result=hit|miss} 메트릭으로 확인
+@Configuration
+public class CacheConfig {
+
+    public static final String USER_REGION = "users";
+    public static final String USER_BY_USERNAME_REGION = "users-by-username";
+
+    @Bean(destroyMethod = "close")
+    @SuppressWarnings("unchecked")
+    public CacheManager hibernateCacheManager(@Value("${users.cache.ttl:PT10M}") Duration ttl,
+                                              @Value("${users.cache.max-size:100000}") long maxSize,
+                                              MeterRegistry meterRegistry) {
+        // 컨텍스트마다 별도 CacheManager (테스트처럼 컨텍스트가 여러 번 뜨면 같은 이름의 캐시가 충돌하므로)
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("finlight:hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : List.of(USER_REGION, USER_BY_USERNAME_REGION)) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStoreByValue(false);   // Hibernate가 이미 분해된 상태를 넣으므로 직렬화 복사 불필요
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));   // 다른 노드에서 바뀐 값도 TTL 안에 반영
+            configuration.setNativeStatisticsEnabled(true);
+            Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+            CaffeineCacheMetrics.monitor(meterRegistry, cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class), region);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");   // 위에서 만든 영역 외에는 만들지 않음 (상한 없는 캐시 방지)
+        };
+    }
+}
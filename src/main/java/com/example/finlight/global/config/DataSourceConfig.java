@@ -0,0 +1,61 @@
+package com.example.finlight.global.config;
+
+import com.example.finlight.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 복제본 URL이 설정된 경우에만 읽기/쓰기 분리 (없으면 스프링 부트 기본 DataSource 하나)
+//   로그인(findByUsername), /me(findProfileById) 같은 readOnly 조회 -> 복제본
+//   가입/수정 등 쓰기 트랜잭션 -> primary
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // 복제본은 primary와 같은 계정으로 접속
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                            DataSourceProperties properties,
+                                                            @Value("${datasource.replica.urls}") String[] urls,
+                                                            @Value("${datasource.replica.max-pool-size:10}") int maxPoolSize,
+                                                            @Value("${datasource.replica.max-lag:PT5S}") Duration maxLag,
+                                                            @Value("${datasource.replica.lag-query:}") String lagQuery,
+                                                            MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.length; i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class).url(urls[i].trim()).build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(maxPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, lagQuery, meterRegistry);
+    }
+
+    // JPA, Flyway, JdbcTemplate이 쓰는 DataSource - 첫 쿼리 시점에 readOnly 여부를 보고 연결을 고름
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
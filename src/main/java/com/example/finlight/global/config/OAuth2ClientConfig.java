@@ -0,0 +1,111 @@
+package com.example.finlight.global.config;
+
+import com.example.finlight.global.auth.oauth.OAuth2ProviderMetricsInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+// OAuth 제공자(구글/카카오) 호출용 HTTP 클라이언트 - 토큰 교환과 사용자 정보 조회가 같은 커넥션 풀을 씀
+// 기본 RestTemplate(HttpURLConnection)은 풀/타임아웃/지표가 없어서, 제공자가 느리면 요청 스레드가 그만큼 묶인다.
+//   연결은 keep-alive로 재사용 (매 로그인마다 TLS 핸드셰이크 X), 연결/응답/풀 대기 시간은 모두 명시적으로 제한
+//   호출 지표는 OAuth2ProviderMetricsInterceptor, 풀 상태는 auth.oauth.http.pool{state}
+@Configuration
+public class OAuth2ClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oauth2HttpClient(@Value("${auth.oauth.http.connect-timeout:2s}") Duration connectTimeout,
+                                                @Value("${auth.oauth.http.read-timeout:5s}") Duration readTimeout,
+                                                @Value("${auth.oauth.http.pool-timeout:1s}") Duration poolTimeout,
+                                                @Value("${auth.oauth.http.max-connections:50}") int maxConnections,
+                                                @Value("${auth.oauth.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+                                                MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))   // 제공자 쪽 DNS/로드밸런서 변경을 따라가도록 오래된 연결은 교체
+                        .build())
+                .build();
+
+        for (String state : List.of("leased", "available", "pending")) {
+            Gauge.builder("auth.oauth.http.pool", connectionManager, manager -> switch (state) {
+                        case "leased" -> manager.getTotalStats().getLeased();
+                        case "available" -> manager.getTotalStats().getAvailable();
+                        default -> manager.getTotalStats().getPending();
+                    })
+                    .tag("state", state)
+                    .register(meterRegistry);
+        }
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))   // 풀이 가득 차면 이만큼만 기다리고 실패
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))   // 제공자가 먼저 끊었을 유휴 연결 정리
+                .build();
+    }
+
+    @Bean
+    public OAuth2ProviderMetricsInterceptor oauth2ProviderMetricsInterceptor(ClientRegistrationRepository clientRegistrationRepository,
+                                                                             MeterRegistry meterRegistry) {
+        // 스프링 부트가 만드는 InMemoryClientRegistrationRepository는 Iterable
+        @SuppressWarnings("unchecked")
+        Iterable<ClientRegistration> registrations = clientRegistrationRepository instanceof Iterable<?>
+                ? (Iterable<ClientRegistration>) clientRegistrationRepository
+                : List.of();
+        return new OAuth2ProviderMetricsInterceptor(registrations, meterRegistry);
+    }
+
+    // 사용자 정보 조회 (CustomOAuth2UserService) - DefaultOAuth2UserService 기본 설정과 같은 오류 처리
+    @Bean
+    public RestTemplate oauth2UserInfoRestTemplate(CloseableHttpClient oauth2HttpClient,
+                                                   OAuth2ProviderMetricsInterceptor oauth2ProviderMetricsInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(oauth2HttpClient));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        restTemplate.getInterceptors().add(oauth2ProviderMetricsInterceptor);
+        return restTemplate;
+    }
+
+    // 인가 코드 -> 토큰 교환 (SecurityConfig의 oauth2Login tokenEndpoint)
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oauth2AccessTokenResponseClient(
+            CloseableHttpClient oauth2HttpClient, OAuth2ProviderMetricsInterceptor oauth2ProviderMetricsInterceptor) {
+        RestTemplate restTemplate = new RestTemplate(List.of(
+                new FormHttpMessageConverter(), new OAuth2AccessTokenResponseHttpMessageConverter()));
+        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(oauth2HttpClient));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        restTemplate.getInterceptors().add(oauth2ProviderMetricsInterceptor);
+
+        DefaultAuthorizationCodeTokenResponseClient client = new DefaultAuthorizationCodeTokenResponseClient();
+        client.setRestOperations(restTemplate);
+        return client;
+    }
+}
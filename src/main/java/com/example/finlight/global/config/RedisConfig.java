@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -22,4 +23,20 @@ public class RedisConfig {
 
         return template;
     }
+
+    // 리프레시 토큰 전용: 키는 "auth:rt:" + UUID 16바이트, 값은 토큰의 SHA-256 32바이트를 그대로 저장
+    // JSON 직렬화(따옴표 + 타입 정보 + 수백 바이트 JWT) 대신 고정 크기 바이너리라 세션당 메모리가 몇 배 줄어든다.
+    @Bean
+    public RedisTemplate<byte[], byte[]> refreshTokenRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setEnableDefaultSerializer(false);
+
+        template.setKeySerializer(RedisSerializer.byteArray());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+
+        return template;
+    }
 }
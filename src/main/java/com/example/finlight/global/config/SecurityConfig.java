@@ -3,9 +3,11 @@ package com.example.finlight.global.config;
 import com.example.finlight.global.auth.*;
 import com.example.finlight.global.auth.jwt.JwtAuthenticationFilter;
 import com.example.finlight.global.auth.jwt.JwtUtil;
+import com.example.finlight.global.auth.limit.LoginThrottle;
 import com.example.finlight.global.auth.oauth.CustomOAuth2UserService;
 import com.example.finlight.global.auth.oauth.OAuth2SuccessHandler;
-import com.example.finlight.global.redis.RefreshTokenService;
+import com.example.finlight.global.auth.refresh.RefreshTokenStore;
+import com.example.finlight.global.auth.route.PublicRoutes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,8 +17,9 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.access.AccessDeniedHandlerImpl;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -30,12 +33,14 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final JwtUtil jwtUtil;
-    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginThrottle loginThrottle;
+    private final OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oauth2AccessTokenResponseClient;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager, RefreshTokenService refreshTokenService) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager, RefreshTokenStore refreshTokenStore) throws Exception {
 
-        JwtLoginFilter jwtLoginFilter = new JwtLoginFilter(authenticationManager, jwtUtil, refreshTokenService); // DI 아닌 직접 생성 (JwtLoginFilter는 Bean 등록을 안하므로)
+        JwtLoginFilter jwtLoginFilter = new JwtLoginFilter(authenticationManager, jwtUtil, refreshTokenStore, loginThrottle); // DI 아닌 직접 생성 (JwtLoginFilter는 Bean 등록을 안하므로)
 
         return http
                 // JWT + OAuth2 인증 방식이므로
@@ -47,9 +52,13 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
-                        .requestMatchers("/", "/api/users", "/oauth2/**", "/login").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/users", "/api/users/refresh").permitAll()   // 일반 회원가입, 토큰 재발행
+                        // 공개 경로 목록은 PublicRoutes 한 곳에서 관리 (JwtAuthenticationFilter도 같은 목록으로 JWT 처리를 건너뜀)
+                        .requestMatchers(PublicRoutes.SWAGGER).permitAll()
+                        .requestMatchers(PublicRoutes.ANY_METHOD).permitAll()
+                        .requestMatchers(HttpMethod.POST, PublicRoutes.POST_ONLY).permitAll()   // 일반 회원가입, 토큰 재발행
+                        .requestMatchers(HttpMethod.GET, PublicRoutes.GET_ONLY).permitAll()     // 가입 폼 중복 확인
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")     // 관리자 API (사용자 일괄 등록 등)
+                        .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")     // 내부 지표 (로그인 제한, 해싱 풀, DB 라우팅 등)
                         .anyRequest().authenticated()     // 그 외 요청은 인증 필요
                 )
 
@@ -59,10 +68,12 @@ public class SecurityConfig {
                                 new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),           // 인증 없음 → 401
                                 new AntPathRequestMatcher("/api/**")
                         )
-                        .accessDeniedHandler(new AccessDeniedHandlerImpl())        // 인가 실패 → 403
+                        // 인가 실패 → 403 (sendError를 쓰면 /error 재요청이 익명으로 처리되어 로그인 페이지 302가 나가므로 상태만 설정)
+                        .accessDeniedHandler((request, response, e) -> response.setStatus(HttpStatus.FORBIDDEN.value()))
                 )
 
                 .oauth2Login(oauth2 -> oauth2
+                        .tokenEndpoint(token -> token.accessTokenResponseClient(oauth2AccessTokenResponseClient))    // 인가 코드 -> 토큰 교환 (OAuth2ClientConfig의 풀/타임아웃)
                         .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))    // 유저 정보 가져오기
                         .successHandler(oAuth2SuccessHandler)    // 로그인 성공 이후 처리
                 )
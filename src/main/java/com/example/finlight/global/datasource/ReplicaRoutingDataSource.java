@@ -0,0 +1,143 @@
+package com.example.finlight.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본으로, 그 외(쓰기, 트랜잭션 밖)는 primary로 보내는 DataSource
+//   - 복제본이 여러 개면 라운드 로빈
+//   - 복제 지연이 max-lag를 넘었거나 연결에 실패한 복제본은 다음 점검까지 빼고 primary에서 읽음
+// 트랜잭션 시작 시점엔 readOnly 여부가 아직 동기화 전이라, 실제 연결을 첫 쿼리까지 미루는 LazyConnectionDataSourceProxy로 감싸서 써야 함
+// 메트릭: datasource.route{target=primary|replica, reason=write|read|replica-unavailable}
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter writes;
+    private final Counter reads;
+    private final Counter fallbacks;
+
+    // lagQuery: 복제 지연(초)을 돌려주는 쿼리, 없으면 연결 가능 여부만 점검
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                    Duration maxLag, String lagQuery, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.writes = route(meterRegistry, "primary", "write");
+        this.reads = route(meterRegistry, "replica", "read");
+        this.fallbacks = route(meterRegistry, "primary", "replica-unavailable");
+    }
+
+    private static Counter route(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.route")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return primary.getConnection();
+        }
+        Replica replica = pick();
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                reads.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.healthy = false;   // 다음 점검에서 살아나면 다시 사용
+                log.warn("복제본 연결 실패, primary로 대체 - {}", e.getMessage());
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    // 계정을 직접 지정한 연결은 라우팅하지 않음
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // 정상 복제본 중 다음 순서, 없으면 null
+    private Replica pick() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // 복제본 상태 점검 - 연결 가능하고 지연이 max-lag 이하면 사용
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval:PT5S}")
+    public void checkReplicas() {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            boolean healthy = isHealthy(replica.dataSource);
+            if (healthy != replica.healthy) {
+                log.info("복제본 {} 상태 변경: {}", i, healthy ? "사용" : "제외");
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    private boolean isHealthy(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (lagQuery == null) {
+                return connection.isValid(1);
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(lagQuery)) {
+                double lagSeconds = result.next() ? result.getDouble(1) : Double.MAX_VALUE;
+                return lagSeconds * 1000 <= maxLag.toMillis();
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
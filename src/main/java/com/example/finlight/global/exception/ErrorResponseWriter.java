@@ -0,0 +1,33 @@
+package com.example.finlight.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// 컨트롤러 밖(시큐리티 필터, 인증 성공 핸들러)에서 GlobalExceptionHandler와 같은 형식으로 에러 응답을 씀
+// 메시지는 ObjectMapper로 직렬화 (따옴표 등이 들어가도 JSON이 깨지지 않음)
+public final class ErrorResponseWriter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ErrorResponseWriter() {
+    }
+
+    // 503(저장소 장애) / 429(과부하, 시도 횟수 초과) + Retry-After
+    public static void writeRetryLater(HttpServletResponse response, ServiceUnavailableException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        try {
+            response.setStatus(errorCode.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            OBJECT_MAPPER.writeValue(response.getWriter(), new ErrorResponse(errorCode.getStatus().value(), errorCode.getMessage()));
+        } catch (IOException io) {
+            throw new UncheckedIOException(io);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.finlight.global.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+// 잠시 후 다시 시도하면 되는 거절 (ErrorCode의 상태 503/429 + Retry-After)
+@Getter
+public class ServiceUnavailableException extends CustomException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);   // 초 단위 올림, 최소 1초
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.finlight.global.jpa;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 엔티티 UUID PK를 시간 순 UUID(v7)로 생성 - @Id 필드에 @GeneratedValue 대신 붙임
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7Id {
+}
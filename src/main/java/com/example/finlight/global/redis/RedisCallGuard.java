@@ -0,0 +1,146 @@
+package com.example.finlight.global.redis;
+
+import com.example.finlight.global.exception.ErrorCode;
+import com.example.finlight.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Redis 호출 보호막: 동시 호출 수 제한 + 서킷 브레이커
+// Redis가 느리거나 죽었을 때 Tomcat 워커 스레드가 명령 타임아웃만큼 줄줄이 묶이지 않도록, 빨리 실패시킨다.
+//   CLOSED    - 정상. 연속 실패가 failureThreshold번 쌓이면 OPEN
+//   OPEN      - openDuration 동안 Redis를 호출하지 않고 바로 503 (Retry-After = 남은 시간)
+//   HALF_OPEN - OPEN 시간이 지나면 한 번만 시험 호출. 성공하면 CLOSED, 실패하면 다시 OPEN
+// 실패로 세는 것은 Redis 접근 오류(DataAccessException: 타임아웃, 연결 실패 등)뿐이다.
+final class RedisCallGuard {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // 포화, 서킷을 열지 않은 단발 실패, 시험 호출 진행 중 - 곧 다시 시도해도 되는 경우의 Retry-After
+    private static final Duration RETRY_SOON = Duration.ofSeconds(1);
+
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private int consecutiveFailures;   // onFailure/onSuccess에서 this 잠금으로 갱신
+
+    private final Counter rejectedOpen;
+    private final Counter rejectedSaturated;
+    private final Counter failures;
+
+    RedisCallGuard(int maxInFlight, int failureThreshold, Duration openDuration, MeterRegistry meterRegistry, LongSupplier clock) {
+        this("auth.refresh.store", maxInFlight, failureThreshold, openDuration, meterRegistry, clock);
+    }
+
+    // metricPrefix - 가드마다 지표 이름을 나눔 (같은 이름이면 Gauge가 먼저 만든 가드 것만 남음)
+    RedisCallGuard(String metricPrefix, int maxInFlight, int failureThreshold, Duration openDuration, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+
+        // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        Gauge.builder(metricPrefix + ".circuit.state", this, guard -> guard.state.ordinal())
+                .description("Redis circuit breaker state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".inflight", this, guard -> guard.maxInFlight - guard.inFlight.availablePermits())
+                .register(meterRegistry);
+        this.rejectedOpen = Counter.builder(metricPrefix + ".rejected").tag("reason", "open").register(meterRegistry);
+        this.rejectedSaturated = Counter.builder(metricPrefix + ".rejected").tag("reason", "saturated").register(meterRegistry);
+        this.failures = Counter.builder(metricPrefix + ".failures").register(meterRegistry);
+    }
+
+    <T> T call(Supplier<T> command) {
+        boolean trial = admit();
+        if (!inFlight.tryAcquire()) {
+            if (trial) {
+                trialInFlight.set(false);
+            }
+            rejectedSaturated.increment();
+            throw unavailable(RETRY_SOON);
+        }
+        try {
+            T result = command.get();
+            onSuccess(trial);
+            return result;
+        } catch (DataAccessException e) {
+            boolean opened = onFailure();
+            throw unavailable(opened ? Duration.ofMillis(openMillis) : RETRY_SOON);
+        } finally {
+            inFlight.release();
+            if (trial) {
+                trialInFlight.set(false);
+            }
+        }
+    }
+
+    void run(Runnable command) {
+        call(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    State state() {
+        return state;
+    }
+
+    // OPEN이면 거절, OPEN 시간이 지났으면 시험 호출 하나만 통과시킴. 시험 호출이면 true
+    private boolean admit() {
+        if (state == State.CLOSED) {
+            return false;
+        }
+        long remaining = openedAt + openMillis - clock.getAsLong();
+        if (remaining > 0) {
+            rejectedOpen.increment();
+            throw unavailable(Duration.ofMillis(remaining));
+        }
+        if (!trialInFlight.compareAndSet(false, true)) {
+            // 다른 요청의 시험 호출 결과를 기다리는 중 - Retry-After 0이면 클라이언트가 곧바로 재시도를 반복하므로 최소값
+            rejectedOpen.increment();
+            throw unavailable(RETRY_SOON);
+        }
+        state = State.HALF_OPEN;
+        return true;
+    }
+
+    // 서킷을 닫는 것은 CLOSED 상태의 호출이나 시험 호출뿐 - OPEN 전에 들어간 느린 호출이 늦게 성공해도 OPEN을 닫지 않음
+    private synchronized void onSuccess(boolean trial) {
+        if (trial || state == State.CLOSED) {
+            consecutiveFailures = 0;
+            state = State.CLOSED;
+        }
+    }
+
+    // 이번 실패로 서킷이 열렸으면 true
+    private synchronized boolean onFailure() {
+        failures.increment();
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            openedAt = clock.getAsLong();
+            state = State.OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    private static ServiceUnavailableException unavailable(Duration retryAfter) {
+        return new ServiceUnavailableException(ErrorCode.AUTH_STORE_UNAVAILABLE, retryAfter);
+    }
+}
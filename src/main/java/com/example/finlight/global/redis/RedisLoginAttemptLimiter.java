@@ -0,0 +1,83 @@
+package com.example.finlight.global.redis;
+
+import com.example.finlight.global.auth.limit.LoginAttemptLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+// LoginAttemptLimiter 기본 구현 - 여러 노드가 같은 시도 횟수를 보도록 Redis에 보관
+//   auth:login:<key>  해시  w(윈도우 번호), c(현재 윈도우 횟수), p(직전 윈도우 횟수), TTL = 윈도우 2개
+// 읽기/판단/기록을 Lua 스크립트 한 번(왕복 1회)으로 원자적으로 처리한다.
+@Component
+@ConditionalOnProperty(name = "auth.login-limit.store", havingValue = "redis", matchIfMissing = true)
+public class RedisLoginAttemptLimiter implements LoginAttemptLimiter {
+    private final RedisTemplate<byte[], byte[]> redisTemplate;
+    private final RedisCallGuard guard;   // Redis 장애 시 로그인을 바로 503 (리프레시 토큰 저장소와 별도의 서킷/동시 호출 상한)
+
+    private static final String KEY_PREFIX = "auth:login:";
+
+    private static final RedisScript<Long> ATTEMPT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/login_attempt.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/login_attempt_release.lua"), Long.class);
+
+    @Autowired
+    public RedisLoginAttemptLimiter(RedisTemplate<byte[], byte[]> refreshTokenRedisTemplate,
+                                    @Value("${auth.login-limit.redis.max-in-flight:64}") int maxInFlight,
+                                    @Value("${auth.login-limit.redis.failure-threshold:5}") int failureThreshold,
+                                    @Value("${auth.login-limit.redis.open-duration:10s}") Duration openDuration,
+                                    MeterRegistry meterRegistry) {
+        this.redisTemplate = refreshTokenRedisTemplate;
+        this.guard = new RedisCallGuard("auth.login.limiter", maxInFlight, failureThreshold, openDuration, meterRegistry, System::currentTimeMillis);
+    }
+
+    @Override
+    public long tryAcquire(String key, int limit, Duration window) {
+        Long waitMillis = guard.call(() -> redisTemplate.execute(
+                ATTEMPT_SCRIPT,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(key(key)),
+                ascii(System.currentTimeMillis()),
+                ascii(window.toMillis()),
+                ascii(limit)
+        ));
+        return waitMillis == null ? 0 : waitMillis;
+    }
+
+    @Override
+    public void reset(String key) {
+        guard.call(() -> redisTemplate.delete(key(key)));
+    }
+
+    @Override
+    public void release(String key, Duration window) {
+        guard.call(() -> redisTemplate.execute(
+                RELEASE_SCRIPT,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(key(key)),
+                ascii(System.currentTimeMillis()),
+                ascii(window.toMillis())
+        ));
+    }
+
+    private static byte[] key(String key) {
+        return (KEY_PREFIX + key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.finlight.global.redis;
+
+import com.example.finlight.global.auth.jwt.TokenDigest;
+import com.example.finlight.global.auth.refresh.RefreshTokenStore;
+import com.example.finlight.global.auth.refresh.RotationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// RefreshTokenStore 기본 구현 - 사용자별로 기기 세션(sid)마다 리프레시 토큰을 따로 Redis에 보관
+//   auth:rt:{<userId 16바이트>}:s  해시  sid(16바이트) -> 토큰 SHA-256(32바이트)
+//   auth:rt:{<userId 16바이트>}:u  zset  sid, 점수 = 마지막 사용 시각(ms) -> 만료 판단과 LRU 제거에 사용
+//   auth:rt:{<userId 16바이트>}:p  해시  sid -> 직전 토큰 SHA-256 + 교체 시각(ms) -> 동시 재발급에서 진 요청을 재사용으로 오인하지 않도록
+// 토큰 원문은 저장하지 않으며, 변경 작업은 모두 Lua 스크립트 한 번(왕복 1회)으로 원자적으로 처리한다.
+// 세 키는 {}(hash tag)로 묶어 클러스터에서도 같은 슬롯에 놓이게 함
+@Component
+@ConditionalOnProperty(name = "auth.refresh.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+    private final RedisTemplate<byte[], byte[]> redisTemplate;
+    private final int maxSessions;
+    private final long reuseGraceMillis;
+    private final RedisCallGuard guard;   // Redis 장애 시 빨리 실패 (503 + Retry-After), 액세스 토큰 검증은 Redis와 무관하게 계속 동작
+
+    private static final byte[] KEY_PREFIX = "auth:rt:{".getBytes(StandardCharsets.US_ASCII);
+    private static final byte SESSIONS_SUFFIX = 's';
+    private static final byte USAGE_SUFFIX = 'u';
+    private static final byte PREVIOUS_SUFFIX = 'p';
+
+    // 스크립트는 SHA로 캐싱되어 EVALSHA로 실행 (서버에 없으면 RedisTemplate이 EVAL로 한 번 적재)
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/save_refresh_session.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rotate_refresh_token.lua"), Long.class);
+    private static final RedisScript<Long> REVOKE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/revoke_refresh_session.lua"), Long.class);
+
+    @Autowired
+    public RedisRefreshTokenStore(RedisTemplate<byte[], byte[]> refreshTokenRedisTemplate,
+                                  @Value("${auth.refresh.max-sessions:5}") int maxSessions,
+                                  @Value("${auth.refresh.reuse-grace:5s}") Duration reuseGrace,
+                                  @Value("${auth.refresh.redis.max-in-flight:64}") int maxInFlight,
+                                  @Value("${auth.refresh.redis.failure-threshold:5}") int failureThreshold,
+                                  @Value("${auth.refresh.redis.open-duration:10s}") Duration openDuration,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = refreshTokenRedisTemplate;
+        this.maxSessions = maxSessions;
+        this.reuseGraceMillis = reuseGrace.toMillis();
+        this.guard = new RedisCallGuard(maxInFlight, failureThreshold, openDuration, meterRegistry, System::currentTimeMillis);
+    }
+
+    @Override
+    public void save(UUID userId, UUID sessionId, String refreshToken, Duration ttl) {
+        long now = System.currentTimeMillis();
+        execute(SAVE_SCRIPT, userId,
+                uuidBytes(sessionId),
+                TokenDigest.sha256(refreshToken),
+                ascii(now),
+                ascii(now - ttl.toMillis()),
+                ascii(ttl.toMillis()),
+                ascii(maxSessions));
+    }
+
+    // 다이제스트끼리 상수 시간 비교
+    @Override
+    public boolean verifyRefreshToken(UUID userId, UUID sessionId, String providedToken) {
+        byte[] saved = guard.call(() -> redisTemplate.<byte[], byte[]>opsForHash().get(sessionsKey(userId), uuidBytes(sessionId)));
+        return saved != null && MessageDigest.isEqual(saved, TokenDigest.sha256(providedToken));
+    }
+
+    // 세션 수가 작게 제한되어 있어 HVALS 한 번으로 충분
+    @Override
+    public boolean verifyRefreshToken(UUID userId, String providedToken) {
+        byte[] digest = TokenDigest.sha256(providedToken);
+        List<byte[]> saved = guard.call(() -> redisTemplate.<byte[], byte[]>opsForHash().values(sessionsKey(userId)));
+        boolean matched = false;
+        for (byte[] candidate : saved) {
+            matched |= MessageDigest.isEqual(candidate, digest);
+        }
+        return matched;
+    }
+
+    // 비교/교체/재사용 시 세션 폐기까지 스크립트 한 번으로 처리
+    @Override
+    public RotationResult rotate(UUID userId, UUID sessionId, String currentToken, String newToken, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Long result = execute(ROTATE_SCRIPT, userId,
+                uuidBytes(sessionId),
+                TokenDigest.sha256(currentToken),
+                TokenDigest.sha256(newToken),
+                ascii(now),
+                ascii(now - ttl.toMillis()),
+                ascii(ttl.toMillis()),
+                ascii(reuseGraceMillis));
+        return toRotationResult(result);
+    }
+
+    @Override
+    public void delete(UUID userId, UUID sessionId) {
+        execute(REVOKE_SCRIPT, userId, uuidBytes(sessionId));
+    }
+
+    // DEL 한 번에 세 키 모두 제거
+    @Override
+    public void delete(UUID userId) {
+        guard.call(() -> redisTemplate.delete(List.of(sessionsKey(userId), usageKey(userId), previousKey(userId))));
+    }
+
+    private Long execute(RedisScript<Long> script, UUID userId, byte[]... args) {
+        return guard.call(() -> redisTemplate.execute(
+                script,
+                RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(sessionsKey(userId), usageKey(userId), previousKey(userId)),
+                (Object[]) args
+        ));
+    }
+
+    // 스크립트 반환값: 1 = 교체됨, 2 = 재사용 탐지, 그 외 = 세션 없음/만료/유예 시간 안의 직전 토큰
+    private static RotationResult toRotationResult(Long result) {
+        if (result == null) {
+            return RotationResult.MISMATCH;
+        }
+        return switch (result.intValue()) {
+            case 1 -> RotationResult.ROTATED;
+            case 2 -> RotationResult.REUSE_DETECTED;
+            default -> RotationResult.MISMATCH;
+        };
+    }
+
+    private static byte[] sessionsKey(UUID userId) {
+        return key(userId, SESSIONS_SUFFIX);
+    }
+
+    private static byte[] usageKey(UUID userId) {
+        return key(userId, USAGE_SUFFIX);
+    }
+
+    private static byte[] previousKey(UUID userId) {
+        return key(userId, PREVIOUS_SUFFIX);
+    }
+
+    private static byte[] key(UUID userId, byte suffix) {
+        return ByteBuffer.allocate(KEY_PREFIX.length + 16 + 3)
+                .put(KEY_PREFIX)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .put((byte) '}')
+                .put((byte) ':')
+                .put(suffix)
+                .array();
+    }
+
+    private static byte[] uuidBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.finlight.global.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 시간 순으로 증가하는 UUID (RFC 9562 version 7)
+//   상위 48비트 = Unix 시각(ms), 4비트 = 버전(7), 12비트 = 같은 ms 안에서 증가하는 카운터, 2비트 = variant, 62비트 = 난수
+// 랜덤 UUID(v4)는 PK B-tree의 아무 페이지에나 들어가서 페이지 분할과 인덱스 팽창을 일으키지만,
+// v7은 항상 인덱스 오른쪽 끝에 붙어서 삽입이 순차적이다. 하위 62비트 난수 덕분에 추측은 여전히 어렵다.
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);   // 새 ms의 시작값은 절반 아래에서 골라 증가 여유를 남김
+
+    // (ms << 12) | counter - 한 프로세스 안에서는 항상 증가 (시계가 뒤로 가도 이전 값 + 1)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    static UUID next(long nowMillis) {
+        long candidate = (nowMillis << COUNTER_BITS) | RANDOM.nextInt((int) COUNTER_SEED_BOUND);
+        long state;
+        while (true) {
+            long last = LAST.get();
+            // 같은 ms(또는 시계 역행)면 카운터 증가 - 12비트를 넘치면 다음 ms로 넘어가므로 순서는 유지됨
+            state = candidate > last ? candidate : last + 1;
+            if (LAST.compareAndSet(last, state)) {
+                break;
+            }
+        }
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & ((1 << COUNTER_BITS) - 1);
+        long msb = (timestamp << 16) | 0x7000L | counter;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    // v7 UUID에 담긴 생성 시각(ms)
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,25 @@
+-- users 테이블 (User 엔티티)
+-- ddl-auto: update 로 이미 만들어진 DB에도 적용할 수 있도록 IF NOT EXISTS 사용 (spring.flyway.baseline-on-migrate)
+
+CREATE TABLE IF NOT EXISTS users
+(
+    id         uuid         NOT NULL,
+    email      varchar(100) NOT NULL,
+    nickname   varchar(50)  NOT NULL,
+    password   varchar(225) NOT NULL,
+    username   varchar(300) NOT NULL,
+    role       varchar(20)  NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT users_role_check CHECK (role IN ('USER', 'ADMIN'))
+);
+
+-- 로그인/가입 중복 확인(username), 닉네임 중복 확인(nickname) - 유니크 인덱스가 조회 인덱스 역할도 함
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_username ON users (username);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_nickname ON users (nickname);
+
+-- 대소문자 구분 없는 이메일 조회 (lower(email) = lower(?))
+CREATE INDEX IF NOT EXISTS ix_users_email_lower ON users (lower(email));
+
+-- 가입일 기준 정렬/기간 조회
+CREATE INDEX IF NOT EXISTS ix_users_created_at ON users (created_at);
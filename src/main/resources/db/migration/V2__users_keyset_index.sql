@@ -0,0 +1,4 @@
+-- 관리자 목록 keyset 페이지네이션 (ORDER BY created_at, id / WHERE (created_at, id) > (?, ?))
+-- 정렬 키 전체를 담은 인덱스라 created_at 단일 인덱스는 대체됨
+CREATE INDEX IF NOT EXISTS ix_users_created_at_id ON users (created_at, id);
+DROP INDEX IF EXISTS ix_users_created_at;
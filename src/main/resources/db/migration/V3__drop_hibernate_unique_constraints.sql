@@ -0,0 +1,21 @@
+-- ddl-auto: update 로 만들어진 DB에는 Hibernate가 만든 유니크 제약(UK + 해시 이름, 예: UKr43af9ap4edm43mmtq01oddj6)이
+-- 이미 있어서 V1의 ux_users_username / ux_users_nickname 과 같은 컬럼에 유니크 인덱스가 두 개씩 생김 (INSERT마다 둘 다 갱신)
+-- -> username / nickname 단일 컬럼 유니크 제약 중 마이그레이션이 만든 인덱스가 아닌 것은 제거. Flyway로만 만든 DB에서는 아무것도 하지 않음
+DO
+$$
+DECLARE
+    c record;
+BEGIN
+    FOR c IN
+        SELECT con.conname
+        FROM pg_constraint con
+                 JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+        WHERE con.conrelid = 'users'::regclass
+          AND con.contype = 'u'
+          AND cardinality(con.conkey) = 1
+          AND att.attname IN ('username', 'nickname')
+        LOOP
+            EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', c.conname);
+        END LOOP;
+END
+$$;
@@ -0,0 +1,29 @@
+-- 로그인 시도 하나를 기록 (InMemoryLoginAttemptLimiter.Window와 같은 계산)
+-- KEYS[1] = 시도 해시 (w: 현재 고정 윈도우 번호, c: 현재 윈도우 횟수, p: 직전 윈도우 횟수)
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 윈도우 길이(ms), ARGV[3] = 허용 횟수
+-- 반환: 0 = 허용(기록함), 양수 = 초과(기록 안 함), 다음 시도까지 남은 ms
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local limit = tonumber(ARGV[3])
+local index = math.floor(now / window)
+
+local state = redis.call('HMGET', KEYS[1], 'w', 'c', 'p')
+local w = tonumber(state[1])
+local c = tonumber(state[2]) or 0
+local p = tonumber(state[3]) or 0
+if w ~= index then
+    if w ~= nil and w + 1 == index then p = c else p = 0 end
+    c = 0
+end
+
+local elapsed = now - index * window
+local remaining = window - elapsed
+if p * remaining + (c + 1) * window <= limit * window then
+    redis.call('HSET', KEYS[1], 'w', index, 'c', c + 1, 'p', p)
+    redis.call('PEXPIRE', KEYS[1], window * 2)
+    return 0
+end
+if c >= limit then
+    return remaining + math.ceil(window * (c - limit + 1) / c)
+end
+return math.max(1, math.ceil(window * (p - (limit - 1 - c)) / p) - elapsed)
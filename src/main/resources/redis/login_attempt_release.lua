@@ -0,0 +1,26 @@
+-- 기록한 로그인 시도 하나를 되돌림 (InMemoryLoginAttemptLimiter.Window.release와 같은 계산)
+-- KEYS[1] = 시도 해시 (login_attempt.lua와 같은 구조)
+-- ARGV[1] = 현재 시각(ms), ARGV[2] = 윈도우 길이(ms)
+local now = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+local index = math.floor(now / window)
+
+local state = redis.call('HMGET', KEYS[1], 'w', 'c', 'p')
+local w = tonumber(state[1])
+if w == nil then
+    return 0
+end
+local c = tonumber(state[2]) or 0
+local p = tonumber(state[3]) or 0
+if w ~= index then
+    if w + 1 == index then p = c else p = 0 end
+    c = 0
+end
+
+if c > 0 then
+    c = c - 1
+elseif p > 0 then
+    p = p - 1
+end
+redis.call('HSET', KEYS[1], 'w', index, 'c', c, 'p', p)   -- TTL은 마지막 기록 때 값 유지
+return 0
@@ -0,0 +1,5 @@
+-- 기기 세션 하나만 제거 (해당 기기 로그아웃)
+-- KEYS[1] = 세션 해시, KEYS[2] = 세션 zset, KEYS[3] = 직전 토큰 해시, ARGV[1] = sid
+redis.call('HDEL', KEYS[1], ARGV[1])
+redis.call('HDEL', KEYS[3], ARGV[1])
+return redis.call('ZREM', KEYS[2], ARGV[1])
@@ -0,0 +1,41 @@
+-- 리프레시 토큰 로테이션: 세션 확인 + 다이제스트 교체 + 사용 시각/TTL 갱신을 한 번에 (원자적으로 실행됨)
+-- KEYS[1] = 세션 해시 (sid -> 토큰 SHA-256), KEYS[2] = 세션 zset (sid, 점수 = 마지막 사용 시각 ms)
+-- KEYS[3] = 직전 토큰 해시 (sid -> 직전 토큰 SHA-256(32바이트) .. 교체 시각 ms)
+-- ARGV[1] = sid, ARGV[2] = 지금 저장돼 있어야 하는 토큰의 SHA-256, ARGV[3] = 새 토큰의 SHA-256
+-- ARGV[4] = 현재 시각(ms), ARGV[5] = 이 시각 이전에 마지막으로 쓰인 세션은 만료, ARGV[6] = TTL(ms)
+-- ARGV[7] = 직전 토큰을 재사용으로 보지 않는 유예 시간(ms)
+-- 반환: 1 = 교체됨, 0 = 세션 없음/만료/방금 교체된 토큰, 2 = 이미 교체된 토큰의 재사용 (세션 폐기)
+local stored = redis.call('HGET', KEYS[1], ARGV[1])
+if not stored then
+    return 0
+end
+
+local lastUsed = redis.call('ZSCORE', KEYS[2], ARGV[1])
+if not lastUsed or tonumber(lastUsed) < tonumber(ARGV[5]) then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('ZREM', KEYS[2], ARGV[1])
+    redis.call('HDEL', KEYS[3], ARGV[1])
+    return 0
+end
+
+if stored ~= ARGV[2] then
+    -- 동시 재발급에서 진 요청(탭 두 개, 앱 재시도)은 방금 교체된 토큰을 보냄 -> 이 요청만 실패, 세션은 유지
+    local previous = redis.call('HGET', KEYS[3], ARGV[1])
+    if previous and string.sub(previous, 1, 32) == ARGV[2]
+            and tonumber(ARGV[4]) - tonumber(string.sub(previous, 33)) <= tonumber(ARGV[7]) then
+        return 0
+    end
+    -- 그보다 오래된 토큰이 다시 들어옴 = 탈취 의심 -> 이 세션 전체를 폐기
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('ZREM', KEYS[2], ARGV[1])
+    redis.call('HDEL', KEYS[3], ARGV[1])
+    return 2
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+redis.call('HSET', KEYS[3], ARGV[1], ARGV[2] .. ARGV[4])
+redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[6])
+redis.call('PEXPIRE', KEYS[2], ARGV[6])
+redis.call('PEXPIRE', KEYS[3], ARGV[6])
+return 1
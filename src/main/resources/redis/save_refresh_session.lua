@@ -0,0 +1,29 @@
+-- 로그인 시 기기 세션 추가: 만료 세션 정리 + 저장 + 최대 개수 초과 시 가장 오래 안 쓴 세션 제거를 한 번에
+-- KEYS[1] = 세션 해시 (sid -> 토큰 SHA-256), KEYS[2] = 세션 zset (sid, 점수 = 마지막 사용 시각 ms), KEYS[3] = 직전 토큰 해시
+-- ARGV[1] = sid, ARGV[2] = 토큰의 SHA-256, ARGV[3] = 현재 시각(ms)
+-- ARGV[4] = 이 시각 이전에 마지막으로 쓰인 세션은 만료, ARGV[5] = TTL(ms), ARGV[6] = 사용자당 최대 세션 수
+-- 반환: 밀려나서 제거된 세션 수
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', '(' .. ARGV[4])
+if #expired > 0 then
+    redis.call('HDEL', KEYS[1], unpack(expired))
+    redis.call('ZREM', KEYS[2], unpack(expired))
+    redis.call('HDEL', KEYS[3], unpack(expired))
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+
+local evicted = 0
+local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[6])
+if overflow > 0 then
+    local oldest = redis.call('ZRANGE', KEYS[2], 0, overflow - 1)
+    redis.call('HDEL', KEYS[1], unpack(oldest))
+    redis.call('ZREM', KEYS[2], unpack(oldest))
+    redis.call('HDEL', KEYS[3], unpack(oldest))
+    evicted = #oldest
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+redis.call('PEXPIRE', KEYS[2], ARGV[5])
+redis.call('PEXPIRE', KEYS[3], ARGV[5])
+return evicted
@@ -0,0 +1,85 @@
+package com.example.finlight.domain.user.repository;
+
+import com.example.finlight.domain.user.entity.User;
+import com.example.finlight.global.util.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// insertIfAbsent는 PostgreSQL 전용 문법(INSERT ... ON CONFLICT ... RETURNING)이라 H2가 아닌 실제 PostgreSQL + 마이그레이션 스키마로 검증
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("insertIfAbsent - 처음 보는 username이면 저장하고 true를 반환한다.")
+    void insertIfAbsent_Inserted() {
+        // Given
+        User user = oauthUser("google_1", "nick1");
+
+        // When
+        boolean inserted = userRepository.insertIfAbsent(user);
+
+        // Then
+        assertThat(inserted).isTrue();
+        assertThat(userRepository.findById(user.getId()))
+                .hasValueSatisfying(saved -> assertThat(saved.getUsername()).isEqualTo("google_1"));
+    }
+
+    @Test
+    @DisplayName("insertIfAbsent - 이미 있는 username이면 아무것도 하지 않고 false를 반환한다.")
+    void insertIfAbsent_UsernameConflict() {
+        // Given
+        User existing = oauthUser("google_1", "nick1");
+        userRepository.insertIfAbsent(existing);
+
+        // When
+        boolean inserted = userRepository.insertIfAbsent(oauthUser("google_1", "nick2"));
+
+        // Then
+        assertThat(inserted).isFalse();
+        assertThat(userRepository.count()).isEqualTo(1);
+        assertThat(userRepository.findById(existing.getId()))
+                .hasValueSatisfying(saved -> assertThat(saved.getNickname()).isEqualTo("nick1"));
+    }
+
+    @Test
+    @DisplayName("insertIfAbsent - username은 다르고 nickname이 겹치면 DataIntegrityViolationException이 발생한다.")
+    void insertIfAbsent_NicknameConflict() {
+        // Given
+        userRepository.insertIfAbsent(oauthUser("google_1", "nick1"));
+
+        // When & Then
+        assertThatThrownBy(() -> userRepository.insertIfAbsent(oauthUser("kakao_2", "nick1")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static User oauthUser(String username, String nickname) {
+        return User.createOAuthUser(UuidV7.next(), username + "@test.com", nickname, username);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.finlight.domain.user.service;
+
+import com.example.finlight.global.exception.CustomException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("일괄 등록 본문 읽기 테스트")
+class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("CSV는 헤더 순서대로 컬럼을 찾고, 따옴표로 감싼 값의 쉼표와 \"\"를 값으로 읽는다.")
+    void csv() throws IOException {
+        // Given
+        String body = "password,email,nickname\n"
+                + "\"pa,ss\"\"word1\",a@example.com,에이\n"
+                + "\n"
+                + "\"broken,b@example.com,비\n";
+        UserImportReader reader = new UserImportReader(stream(body), UserImportReader.Format.CSV, objectMapper);
+
+        // When
+        UserImportReader.Row first = reader.next();
+        UserImportReader.Row second = reader.next();
+
+        // Then
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.request().getEmail()).isEqualTo("a@example.com");
+        assertThat(first.request().getNickname()).isEqualTo("에이");
+        assertThat(first.request().getPassword()).isEqualTo("pa,ss\"word1");
+        assertThat(second.line()).isEqualTo(4);   // 빈 줄은 건너뛰지만 줄 번호는 원본 기준
+        assertThat(second.error()).isNotNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("NDJSON의 잘못된 줄은 오류 행으로, 필수 컬럼이 없는 CSV 헤더는 예외로 처리한다.")
+    void invalidInput() throws IOException {
+        // Given
+        UserImportReader reader = new UserImportReader(
+                stream("{\"email\":\"a@example.com\",\"nickname\":\"에이\",\"password\":\"password1\"}\n{oops\n"),
+                UserImportReader.Format.NDJSON, objectMapper);
+
+        // When & Then
+        assertThat(reader.next().request().getNickname()).isEqualTo("에이");
+        assertThat(reader.next().error()).isNotNull();
+        assertThatThrownBy(() -> new UserImportReader(stream("email,password\n"), UserImportReader.Format.CSV, objectMapper))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,10 +5,13 @@ import com.example.finlight.domain.user.dto.res.UserResponseDTO;
 import com.example.finlight.domain.user.entity.Role;
 import com.example.finlight.domain.user.entity.User;
 import com.example.finlight.domain.user.repository.UserRepository;
+import com.example.finlight.global.auth.jwt.JwtUtil;
+import com.example.finlight.global.auth.refresh.RefreshTokenStore;
+import com.example.finlight.global.auth.refresh.RotationResult;
 import com.example.finlight.global.dto.LoginRequestDTO;
-import com.example.finlight.global.redis.RefreshTokenService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.AfterEach;
@@ -20,10 +23,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -44,11 +50,23 @@ public class UserIntegrationTest {
     private UserRepository userRepository;
 
     @Autowired
-    private RefreshTokenService refreshTokenService;
+    private RefreshTokenStore refreshTokenStore;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
     @LocalServerPort
     private int port;
 
@@ -151,7 +169,7 @@ public class UserIntegrationTest {
         // Refresh Token 값만 파싱 후 Redis에 저장된 토큰과 비교 - Redis에 토큰이 잘 저장되었는지 확인하기 위함
         String refreshToken = extractCookieValue(refreshTokenCookie, "refreshToken");
         UUID uid = testUser.getId();
-        assertThat(refreshTokenService.verifyRefreshToken(uid, refreshToken)).isTrue();
+        assertThat(refreshTokenStore.verifyRefreshToken(uid, refreshToken)).isTrue();
 
         // 응답 본문 검증
         String responseBody = response.getBody();
@@ -290,7 +308,7 @@ public class UserIntegrationTest {
         assertThat(deleteCookie).contains("Max-Age=0"); // 즉시 만료
 
         // Redis에 RT 무효화 확인
-        assertThat(refreshTokenService.verifyRefreshToken(testUser.getId(), refreshToken)).isFalse();
+        assertThat(refreshTokenStore.verifyRefreshToken(testUser.getId(), refreshToken)).isFalse();
 
         System.out.println("✅ 로그아웃 성공 - Refresh Token 삭제됨");
     }
@@ -323,7 +341,275 @@ public class UserIntegrationTest {
         System.out.println("✅ 중복 이메일 회원가입 차단됨");
     }
 
+    @Test
+    @DisplayName("7. 다른 기기에서 로그인해도 기존 기기의 Refresh Token이 유지됨")
+    void 여러_기기_로그인_세션_유지_테스트() {
+        // Given: 같은 사용자가 두 기기에서 로그인
+        User testUser = createTestUser();
+        String firstDevice = extractCookieValue(loginAndGetRefreshTokenCookie(), "refreshToken");
+        String secondDevice = extractCookieValue(loginAndGetRefreshTokenCookie(), "refreshToken");
+
+        // When: 첫 번째 기기에서 재발급
+        ResponseEntity<String> response = refreshWith(firstDevice);
+
+        // Then: 첫 번째 기기도 재발급에 성공하고, 두 번째 기기의 토큰도 그대로 유효
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(refreshTokenStore.verifyRefreshToken(testUser.getId(), secondDevice)).isTrue();
+    }
+
+    @Test
+    @DisplayName("8. 이미 교체된 Refresh Token을 다시 쓰면 해당 기기 세션이 폐기됨")
+    void 리프레시_토큰_재사용_탐지_테스트() {
+        // Given: 로그인 후 두 번 재발급해서 새 토큰을 받음 (직전 토큰은 동시 재발급 유예 대상이므로 두 세대 전 토큰으로 확인)
+        User testUser = createTestUser();
+        String original = extractCookieValue(loginAndGetRefreshTokenCookie(), "refreshToken");
+        String first = extractCookieValue(refreshWith(original).getHeaders().get("Set-Cookie").get(0), "refreshToken");
+        String rotated = extractCookieValue(refreshWith(first).getHeaders().get("Set-Cookie").get(0), "refreshToken");
+
+        UUID sessionId = jwtUtil.verify(original).sessionId();
+        assertThat(jwtUtil.verify(rotated).sessionId()).isEqualTo(sessionId);   // 로테이션해도 같은 기기 세션
+
+        // When: 교체 전 토큰으로 다시 로테이션 시도 (탈취된 토큰 재사용)
+        // (JDK HttpURLConnection은 POST의 401 응답 본문을 읽지 못하므로 서비스를 직접 호출)
+        RotationResult reuse = refreshTokenStore.rotate(testUser.getId(), sessionId, original,
+                jwtUtil.createRefreshToken(testUser.getId(), sessionId), jwtUtil.getRefreshTtl());
+
+        // Then: 재사용으로 탐지되고, 같은 세션의 최신 토큰까지 무효화됨
+        assertThat(reuse).isEqualTo(RotationResult.REUSE_DETECTED);
+        assertThat(refreshTokenStore.verifyRefreshToken(testUser.getId(), sessionId, rotated)).isFalse();
+    }
+
+    @Test
+    @DisplayName("9. 가입 폼 중복 확인 - 가입한 닉네임/이메일은 사용 중, 새 이름은 사용 가능")
+    void 닉네임_이메일_중복_확인_테스트() throws Exception {
+        // Given: API로 회원가입 (가입 시 중복 확인용 필터에도 반영됨)
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        restTemplate.postForEntity(createURL("/api/users"), new HttpEntity<>(userSignupDTO, headers), UserResponseDTO.class);
+
+        // When: 인증 없이 중복 확인
+        ResponseEntity<String> taken = restTemplate.getForEntity(
+                createURL("/api/users/availability?nickname=테스터&email=test@example.com"), String.class);
+        ResponseEntity<String> free = restTemplate.getForEntity(
+                createURL("/api/users/availability?nickname=새닉네임"), String.class);
+
+        // Then
+        assertThat(taken.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode takenBody = new ObjectMapper().readTree(taken.getBody());
+        assertThat(takenBody.get("nicknameAvailable").asBoolean()).isFalse();
+        assertThat(takenBody.get("emailAvailable").asBoolean()).isFalse();
+
+        JsonNode freeBody = new ObjectMapper().readTree(free.getBody());
+        assertThat(freeBody.get("nicknameAvailable").asBoolean()).isTrue();
+        assertThat(freeBody.has("emailAvailable")).isFalse();   // 요청하지 않은 항목은 빠짐
+    }
+
+    @Test
+    @DisplayName("10. 반복 로그인은 2차 캐시에서 응답하고, 닉네임 변경은 캐시에도 반영됨")
+    void 사용자_2차_캐시_테스트() {
+        // Given: 사용자 생성 후 한 번 로그인 (username -> id, id -> User 캐시 적재)
+        User testUser = createTestUser();
+        loginAndGetAccessToken();
+        double byUsernameHits = cacheHits("users-by-username");
+        double userHits = cacheHits("users");
+        double byUsernameMisses = cacheMisses("users-by-username");
+        double userMisses = cacheMisses("users");
+
+        // When: 다시 로그인
+        loginAndGetAccessToken();
+
+        // Then: 두 캐시가 각각 적중하고 놓친 조회는 없음 (username -> id, id -> User 모두 DB 없이)
+        assertThat(cacheHits("users-by-username")).isGreaterThan(byUsernameHits);
+        assertThat(cacheHits("users")).isGreaterThan(userHits);
+        assertThat(cacheMisses("users-by-username")).isEqualTo(byUsernameMisses);
+        assertThat(cacheMisses("users")).isEqualTo(userMisses);
+
+        // When: 닉네임 변경 후 커밋
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findById(testUser.getId()).orElseThrow().changeNickname("새닉네임"));
+        byUsernameHits = cacheHits("users-by-username");
+        userHits = cacheHits("users");
+        byUsernameMisses = cacheMisses("users-by-username");
+        userMisses = cacheMisses("users");
+
+        // Then: 바뀐 닉네임이 캐시에서 읽힘 (각 영역 적중 증가, 놓친 조회 없음 -> DB를 다시 읽지 않음)
+        assertThat(userRepository.findById(testUser.getId()).orElseThrow().getNickname()).isEqualTo("새닉네임");
+        assertThat(userRepository.findByUsername("local_test@example.com").orElseThrow().getNickname()).isEqualTo("새닉네임");
+        assertThat(cacheHits("users")).isGreaterThan(userHits);
+        assertThat(cacheHits("users-by-username")).isGreaterThan(byUsernameHits);
+        assertThat(cacheMisses("users")).isEqualTo(userMisses);
+        assertThat(cacheMisses("users-by-username")).isEqualTo(byUsernameMisses);
+    }
+
+    @Test
+    @DisplayName("11. 관리자 일괄 등록 - 정상 행만 등록되고 잘못된 행/중복 행은 오류로 보고됨, 일반 사용자는 403")
+    void 사용자_일괄_등록_테스트() throws Exception {
+        // Given: 기존 사용자 1명 + 관리자 토큰
+        createTestUser();
+        String csv = "email,nickname,password\n"
+                + "new1@example.com,신규1,password123\n"
+                + "not-an-email,신규2,password123\n"
+                + "test@example.com,신규3,password123\n"            // 이미 가입된 이메일
+                + "\"new2@example.com\",신규4,\"pass,word123\"\n";   // 따옴표로 감싼 값
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+        headers.setBearerAuth(jwtUtil.createAccessToken(UUID.randomUUID(), Role.ADMIN));
+
+        // When
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                createURL("/api/admin/users/import"), new HttpEntity<>(csv, headers), String.class);
+
+        // Then: 진행 상황 NDJSON - 오류 행 2개, 마지막 줄은 최종 건수
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ObjectMapper mapper = new ObjectMapper();
+        List<JsonNode> events = new java.util.ArrayList<>();
+        for (String line : response.getBody().split("\n")) {
+            events.add(mapper.readTree(line));
+        }
+        assertThat(events).filteredOn(event -> event.get("type").asText().equals("error"))
+                .extracting(event -> event.get("line").asLong())
+                .containsExactlyInAnyOrder(3L, 4L);
+        JsonNode done = events.get(events.size() - 1);
+        assertThat(done.get("type").asText()).isEqualTo("done");
+        assertThat(done.get("processed").asLong()).isEqualTo(4);
+        assertThat(done.get("imported").asLong()).isEqualTo(2);
+        assertThat(done.get("failed").asLong()).isEqualTo(2);
+
+        User imported = userRepository.findByUsername("local_new2@example.com").orElseThrow();
+        assertThat(passwordEncoder.matches("pass,word123", imported.getPassword())).isTrue();
+
+        // When & Then: 일반 사용자는 접근 불가
+        headers.setBearerAuth(jwtUtil.createAccessToken(UUID.randomUUID(), Role.USER));
+        ResponseEntity<String> forbidden = restTemplate.postForEntity(
+                createURL("/api/admin/users/import"), new HttpEntity<>(csv, headers), String.class);
+        assertThat(forbidden.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("12. 관리자 사용자 목록 - 커서로 끝까지 넘기면 provider의 사용자를 빠짐없이 한 번씩, 내보내기는 NDJSON으로 전부")
+    void 사용자_목록_내보내기_테스트() throws Exception {
+        // Given: 일반 가입 5명 + 소셜 가입 2명
+        for (int i = 0; i < 5; i++) {
+            userRepository.save(User.createUser("user" + i + "@example.com", "일반" + i, "hash", "local_user" + i + "@example.com", Role.USER));
+        }
+        userRepository.save(User.createUser("g@example.com", "구글", "hash", "google_1", Role.USER));
+        userRepository.save(User.createUser("k@example.com", "카카오", "hash", "kakao_1", Role.USER));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtUtil.createAccessToken(UUID.randomUUID(), Role.ADMIN));
+        ObjectMapper mapper = new ObjectMapper();
+
+        // When: 2명씩 마지막 페이지까지
+        List<String> usernames = new java.util.ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String url = "/api/admin/users?provider=local&size=2" + (cursor == null ? "" : "&cursor=" + cursor);
+            ResponseEntity<String> page = restTemplate.exchange(createURL(url), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+            assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+            JsonNode body = mapper.readTree(page.getBody());
+            body.get("users").forEach(user -> usernames.add(user.get("username").asText()));
+            assertThat(body.get("users").get(0).has("password")).isFalse();   // 해시는 응답에 없음
+            cursor = body.get("nextCursor").isNull() ? null : body.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        ResponseEntity<String> export = restTemplate.exchange(
+                createURL("/api/admin/users/export"), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(usernames).hasSize(5).doesNotHaveDuplicates().allMatch(username -> username.startsWith("local_"));
+        assertThat(export.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(export.getBody().split("\n")).hasSize(7);
+    }
+
+    @Test
+    @DisplayName("13. 예전 형식({id} 없는 BCrypt)으로 저장된 비밀번호는 로그인 성공 시 새 형식으로 다시 저장됨")
+    void 로그인_시_비밀번호_재해싱_테스트() {
+        // Given: 알고리즘 id 없이 저장된 기존 해시
+        userRepository.save(User.createUser("test@example.com", "테스터",
+                new BCryptPasswordEncoder(4).encode("password123"), "local_test@example.com", Role.USER));
+
+        // When
+        loginAndGetAccessToken();
+
+        // Then: {bcrypt} 형식으로 교체되었고, 같은 비밀번호로 계속 로그인 가능
+        String stored = userRepository.findByUsername("local_test@example.com").orElseThrow().getPassword();
+        assertThat(stored).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("password123", stored)).isTrue();
+        assertThat(loginAndGetAccessToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("14. 내부 지표(/actuator/metrics)는 관리자만 조회할 수 있다")
+    void 지표_관리자_전용_테스트() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(jwtUtil.createAccessToken(UUID.randomUUID(), Role.USER));
+
+        // When & Then: 일반 사용자는 403
+        ResponseEntity<String> forbidden = restTemplate.exchange(
+                createURL("/actuator/metrics"), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(forbidden.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+
+        // When & Then: 관리자는 조회 가능
+        headers.setBearerAuth(jwtUtil.createAccessToken(UUID.randomUUID(), Role.ADMIN));
+        ResponseEntity<String> allowed = restTemplate.exchange(
+                createURL("/actuator/metrics/auth.login.throttled"), HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertThat(allowed.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    @DisplayName("15. 다른 노드에서 가입한 이름은 주기적 갱신(마지막 확인 이후 가입분만 조회)으로 중복 확인 필터에 반영됨")
+    void 중복_확인_필터_증분_갱신_테스트() throws Exception {
+        // Given: 시작 시 별도 스레드의 필터 구성이 끝난 뒤, 다른 노드의 가입 (이 노드의 필터에는 기록되지 않음)
+        awaitAvailabilityFilter();
+        userRepository.save(User.createUser("other@example.com", "다른노드", "{bcrypt}hash", "local_other@example.com", Role.USER));
+        assertThat(userAvailabilityService.isNicknameAvailable("다른노드")).isTrue();   // 갱신 전에는 필터가 "확실히 없음"으로 답함
+
+        // When
+        userAvailabilityService.refresh();
+
+        // Then
+        assertThat(userAvailabilityService.isNicknameAvailable("다른노드")).isFalse();
+        assertThat(userAvailabilityService.isUsernameAvailable("local_other@example.com")).isFalse();
+    }
+
     /** ======================= 헬퍼 메서드들 ======================= */
+    /**
+     * 캐시 영역 적중 횟수
+     */
+    private double cacheHits(String region) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", "hit").functionCounter().count();
+    }
+
+    /**
+     * 캐시 영역에서 놓친(DB로 간) 조회 횟수
+     */
+    private double cacheMisses(String region) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", "miss").functionCounter().count();
+    }
+
+    /**
+     * 중복 확인 필터의 첫 구성(ApplicationReadyEvent 후 별도 스레드)이 끝날 때까지 대기
+     */
+    private void awaitAvailabilityFilter() throws InterruptedException {
+        for (int i = 0; i < 100 && !userAvailabilityService.isReady(); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(userAvailabilityService.isReady()).isTrue();
+    }
+
+    /**
+     * Refresh Token 쿠키로 재발급 요청
+     */
+    private ResponseEntity<String> refreshWith(String refreshToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Cookie", "refreshToken=" + refreshToken);
+        return restTemplate.postForEntity(createURL("/api/users/refresh"), new HttpEntity<>(headers), String.class);
+    }
+
+
     /**
      * 테스트용 URL 생성
      */
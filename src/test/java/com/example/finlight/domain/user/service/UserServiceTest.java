@@ -1,14 +1,17 @@
 package com.example.finlight.domain.user.service;
 
 import com.example.finlight.domain.user.dto.req.UserSignupDTO;
+import com.example.finlight.domain.user.dto.res.AvailabilityResponseDTO;
 import com.example.finlight.domain.user.dto.res.UserResponseDTO;
 import com.example.finlight.domain.user.entity.Role;
 import com.example.finlight.domain.user.entity.User;
 import com.example.finlight.domain.user.repository.UserRepository;
 import com.example.finlight.global.auth.jwt.JwtUtil;
+import com.example.finlight.global.auth.jwt.VerifiedToken;
+import com.example.finlight.global.auth.refresh.RefreshTokenStore;
+import com.example.finlight.global.auth.refresh.RotationResult;
 import com.example.finlight.global.exception.CustomException;
 import com.example.finlight.global.exception.ErrorCode;
-import com.example.finlight.global.redis.RefreshTokenService;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,7 +52,10 @@ class UserServiceTest {
     JwtUtil jwtUtil;
 
     @Mock
-    RefreshTokenService refreshTokenService;
+    RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    UserAvailabilityService userAvailabilityService;
 
     @Mock
     HttpServletResponse response;
@@ -70,14 +77,11 @@ class UserServiceTest {
     @DisplayName("일반 회원가입 성공")
     void originalSignUp() {
         // given
-        String username = "local_test@example.com";
         UUID expectedId = UUID.randomUUID();
 
-        when(userRepository.findByUsername(username)).thenReturn(Optional.empty());
-        when(userRepository.existsByNickname("testNick")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
 
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
             User userToSave = invocation.getArgument(0);
 
             // ReflectionTestUtils로 private 필드에 ID 설정
@@ -97,17 +101,55 @@ class UserServiceTest {
         assertThat(result.email()).isEqualTo("test@example.com");
         assertThat(result.nickname()).isEqualTo("testNick");
 
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(userCaptor.capture());
+        assertThat(userCaptor.getValue().getUsername()).isEqualTo("local_test@example.com");
+        verify(userRepository, never()).findByUsername(anyString());   // 사전 중복 조회 없이 INSERT 한 번
+        verify(userRepository, never()).existsByUsernameOrNickname(anyString(), anyString());   // Bloom filter상 확실히 비어 있음
         verify(passwordEncoder).encode("password123");
+        verify(userAvailabilityService).record("local_test@example.com", "testNick");
+    }
+
+    @Test
+    @DisplayName("회원가입 실패 - Bloom filter가 사용 중일 수도 있다고 하면 DB로 확인해서 해싱 전에 거절")
+    void originalSignUp_Fail_MaybeTakenConfirmedByDb() {
+        // given
+        when(userAvailabilityService.mightBeTaken("local_test@example.com", "testNick")).thenReturn(true);
+        when(userRepository.existsByUsernameOrNickname("local_test@example.com", "testNick")).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> userService.originalSignUp(userSignupDTO))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.DUPLICATE_USER);
+
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    @DisplayName("중복 확인 - 요청한 항목만 확인하고, 아무 항목도 없으면 400")
+    void checkAvailability() {
+        // given
+        when(userAvailabilityService.isNicknameAvailable("testNick")).thenReturn(false);
+
+        // when
+        AvailabilityResponseDTO result = userService.checkAvailability("testNick", null);
+
+        // then
+        assertThat(result.nicknameAvailable()).isFalse();
+        assertThat(result.emailAvailable()).isNull();
+        verify(userAvailabilityService, never()).isUsernameAvailable(anyString());
+        assertThatThrownBy(() -> userService.checkAvailability(" ", null))
+                .isInstanceOf(CustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT);
     }
 
     @Test
     @DisplayName("회원가입 실패 - 중복 사용자명")
     void originalSignUp_Fail_DuplicateUsername() {
         // given
-        String username = "local_test@example.com";
-        User existingUser = mock(User.class);
-        when(userRepository.findByUsername(username)).thenReturn(Optional.of(existingUser));
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("unique constraint violated: users.username"));
 
         // when & then
         assertThatThrownBy(() -> userService.originalSignUp(userSignupDTO))
@@ -119,9 +161,9 @@ class UserServiceTest {
     @DisplayName("회원가입 실패 - 중복 닉네임")
     void originalSignUp_Fail_DuplicateNickname() {
         // given
-        String username = "local_test@example.com";
-        when(userRepository.findByUsername(username)).thenReturn(Optional.empty());
-        when(userRepository.existsByNickname("testNick")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("unique constraint violated: users.nickname"));
 
         // when & then
         assertThatThrownBy(() -> userService.originalSignUp(userSignupDTO))
@@ -138,11 +180,15 @@ class UserServiceTest {
         String accessToken = "newAccessToken";
         UUID mockUserId = UUID.randomUUID();
 
-        when(jwtUtil.isTokenValid(refreshToken)).thenReturn(true);
-        when(jwtUtil.extractUserId(refreshToken)).thenReturn(mockUserId);
-        when(refreshTokenService.verifyRefreshToken(mockUserId, refreshToken)).thenReturn(true);
-        when(jwtUtil.createRefreshToken(mockUserId)).thenReturn(newRefreshToken);
-        when(jwtUtil.createAccessToken(mockUserId)).thenReturn(accessToken);
+        VerifiedToken verified = verifiedToken(mockUserId);
+        UUID sessionId = verified.sessionId();
+
+        when(jwtUtil.verify(refreshToken)).thenReturn(verified);
+        when(jwtUtil.getRefreshTtl()).thenReturn(Duration.ofDays(14));
+        when(userRepository.findRoleById(mockUserId)).thenReturn(Optional.of(Role.USER));
+        when(jwtUtil.createRefreshToken(mockUserId, sessionId)).thenReturn(newRefreshToken);   // 같은 기기 세션 유지
+        when(refreshTokenStore.rotate(mockUserId, sessionId, refreshToken, newRefreshToken, Duration.ofDays(14))).thenReturn(RotationResult.ROTATED);
+        when(jwtUtil.createAccessToken(mockUserId, Role.USER)).thenReturn(accessToken);
 
         // when
         ResponseEntity<?> result = userService.reissueToken(refreshToken, response);
@@ -157,11 +203,55 @@ class UserServiceTest {
         assertThat(body.get("accessToken")).isEqualTo(accessToken);
         assertThat(body.get("userId")).isEqualTo(mockUserId);
 
-        verify(refreshTokenService).delete(mockUserId);
-        verify(refreshTokenService).save(eq(mockUserId), eq(newRefreshToken), any(Duration.class));
+        verify(refreshTokenStore).rotate(mockUserId, sessionId, refreshToken, newRefreshToken, Duration.ofDays(14));
+        verify(refreshTokenStore, never()).delete(any());   // 별도의 DEL/SET 없이 로테이션 한 번으로 처리
         verify(response).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
     }
 
+    @Test
+    @DisplayName("토큰 재발급 - 토큰의 role이 아닌 DB의 현재 role로 액세스 토큰을 발급한다 (강등 반영)")
+    void reissueToken_UsesCurrentRole() {
+        // given: 관리자 시절에 받은 (role이 담긴) 리프레시 토큰, 지금은 USER로 강등됨
+        String refreshToken = "adminEraRefreshToken";
+        UUID mockUserId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        VerifiedToken verified = new VerifiedToken(mockUserId, Role.ADMIN, now, now + 60_000, UUID.randomUUID());
+
+        when(jwtUtil.verify(refreshToken)).thenReturn(verified);
+        when(userRepository.findRoleById(mockUserId)).thenReturn(Optional.of(Role.USER));
+        when(jwtUtil.getRefreshTtl()).thenReturn(Duration.ofDays(14));
+        when(jwtUtil.createRefreshToken(mockUserId, verified.sessionId())).thenReturn("newRefreshToken");
+        when(refreshTokenStore.rotate(mockUserId, verified.sessionId(), refreshToken, "newRefreshToken", Duration.ofDays(14)))
+                .thenReturn(RotationResult.ROTATED);
+        when(jwtUtil.createAccessToken(mockUserId, Role.USER)).thenReturn("newAccessToken");
+
+        // when
+        ResponseEntity<?> result = userService.reissueToken(refreshToken, response);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(jwtUtil).createAccessToken(mockUserId, Role.USER);
+        verify(jwtUtil, never()).createAccessToken(mockUserId, Role.ADMIN);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 탈퇴 등으로 사용자가 없으면 401")
+    void reissueToken_Fail_UserGone() {
+        // given
+        String refreshToken = "orphanRefreshToken";
+        UUID mockUserId = UUID.randomUUID();
+        when(jwtUtil.verify(refreshToken)).thenReturn(verifiedToken(mockUserId));
+        when(userRepository.findRoleById(mockUserId)).thenReturn(Optional.empty());
+
+        // when
+        ResponseEntity<?> result = userService.reissueToken(refreshToken, response);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(result.getBody()).isEqualTo("User not found");
+        verify(refreshTokenStore, never()).rotate(any(), any(), anyString(), anyString(), any());
+    }
+
     @Test
     @DisplayName("토큰 재발급 실패 - 토큰 없음")
     void reissueToken_Fail_NoToken() {
@@ -172,8 +262,8 @@ class UserServiceTest {
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
         assertThat(result.getBody()).isEqualTo("No refresh token");
 
-        verify(jwtUtil, never()).isTokenValid(anyString());
-        verify(refreshTokenService, never()).verifyRefreshToken(any(), anyString());
+        verify(jwtUtil, never()).verify(anyString());
+        verify(refreshTokenStore, never()).rotate(any(), any(), anyString(), anyString(), any());
     }
 
     @Test
@@ -181,7 +271,7 @@ class UserServiceTest {
     void reissueToken_Fail_InvalidToken() {
         // given
         String refreshToken = "invalidToken";
-        when(jwtUtil.isTokenValid(refreshToken)).thenReturn(false);
+        when(jwtUtil.verify(refreshToken)).thenReturn(null);
 
         // when
         ResponseEntity<?> result = userService.reissueToken(refreshToken, response);
@@ -190,8 +280,7 @@ class UserServiceTest {
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
         assertThat(result.getBody()).isEqualTo("Invalid refresh token");
 
-        verify(jwtUtil, never()).extractUserId(anyString());
-        verify(refreshTokenService, never()).verifyRefreshToken(any(), anyString());
+        verify(refreshTokenStore, never()).rotate(any(), any(), anyString(), anyString(), any());
     }
 
     @Test
@@ -201,9 +290,14 @@ class UserServiceTest {
         String refreshToken = "mismatchToken";
         UUID mockUserId = UUID.randomUUID();
 
-        when(jwtUtil.isTokenValid(refreshToken)).thenReturn(true);
-        when(jwtUtil.extractUserId(refreshToken)).thenReturn(mockUserId);
-        when(refreshTokenService.verifyRefreshToken(mockUserId, refreshToken)).thenReturn(false);
+        VerifiedToken verified = verifiedToken(mockUserId);
+
+        when(jwtUtil.verify(refreshToken)).thenReturn(verified);
+        when(jwtUtil.getRefreshTtl()).thenReturn(Duration.ofDays(14));
+        when(userRepository.findRoleById(mockUserId)).thenReturn(Optional.of(Role.USER));
+        when(jwtUtil.createRefreshToken(mockUserId, verified.sessionId())).thenReturn("newRefreshToken");
+        when(refreshTokenStore.rotate(mockUserId, verified.sessionId(), refreshToken, "newRefreshToken", Duration.ofDays(14)))
+                .thenReturn(RotationResult.MISMATCH);
 
         // when
         ResponseEntity<?> result = userService.reissueToken(refreshToken, response);
@@ -212,22 +306,83 @@ class UserServiceTest {
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
         assertThat(result.getBody()).isEqualTo("Mismatch/expired refresh token");
 
-        verify(jwtUtil, never()).createRefreshToken(any());
-        verify(jwtUtil, never()).createAccessToken(any());
+        verify(jwtUtil, never()).createAccessToken(any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이미 교체된 토큰 재사용")
+    void reissueToken_Fail_ReuseDetected() {
+        // given
+        String reusedToken = "alreadyRotatedToken";
+        UUID mockUserId = UUID.randomUUID();
+        VerifiedToken verified = verifiedToken(mockUserId);
+
+        when(jwtUtil.verify(reusedToken)).thenReturn(verified);
+        when(jwtUtil.getRefreshTtl()).thenReturn(Duration.ofDays(14));
+        when(userRepository.findRoleById(mockUserId)).thenReturn(Optional.of(Role.USER));
+        when(jwtUtil.createRefreshToken(mockUserId, verified.sessionId())).thenReturn("newRefreshToken");
+        when(refreshTokenStore.rotate(mockUserId, verified.sessionId(), reusedToken, "newRefreshToken", Duration.ofDays(14)))
+                .thenReturn(RotationResult.REUSE_DETECTED);
+
+        // when
+        ResponseEntity<?> result = userService.reissueToken(reusedToken, response);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(result.getBody()).isEqualTo("Refresh token reuse detected");
+
+        verify(jwtUtil, never()).createAccessToken(any(), any());
+        verify(response, never()).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 기기 세션 정보가 없는 토큰")
+    void reissueToken_Fail_NoSession() {
+        // given
+        String refreshToken = "tokenWithoutSid";
+        long now = System.currentTimeMillis();
+        when(jwtUtil.verify(refreshToken)).thenReturn(new VerifiedToken(UUID.randomUUID(), Role.USER, now, now + 60_000));
+
+        // when
+        ResponseEntity<?> result = userService.reissueToken(refreshToken, response);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(result.getBody()).isEqualTo("Invalid refresh token");
+
+        verify(refreshTokenStore, never()).rotate(any(), any(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("로그아웃 성공 - 리프레시 토큰 쿠키가 있으면 해당 기기 세션만 제거")
+    void logout_Success_CurrentSession() {
+        // given
+        UUID mockUserId = UUID.randomUUID();
+        String refreshToken = "deviceRefreshToken";
+        VerifiedToken verified = verifiedToken(mockUserId);
+        when(jwtUtil.verify(refreshToken)).thenReturn(verified);
+
+        // when
+        ResponseEntity<?> result = userService.logout(mockUserId, refreshToken, response);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(refreshTokenStore).delete(mockUserId, verified.sessionId());
+        verify(refreshTokenStore, never()).delete(mockUserId);   // 다른 기기 세션은 유지
     }
 
     @Test
-    @DisplayName("로그아웃 성공")
+    @DisplayName("로그아웃 성공 - 쿠키가 없으면 모든 기기 세션 제거")
     void logout_Success() {
         // given
         UUID mockUserId = UUID.randomUUID();
 
         // when
-        ResponseEntity<?> result = userService.logout(mockUserId, response);
+        ResponseEntity<?> result = userService.logout(mockUserId, null, response);
 
         // then
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
-        verify(refreshTokenService).delete(mockUserId);
+        verify(refreshTokenStore).delete(mockUserId);
         verify(response).setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
         verify(response).addHeader(eq(HttpHeaders.SET_COOKIE), anyString());
     }
@@ -237,28 +392,19 @@ class UserServiceTest {
     void me_Success() {
         // given
         UUID mockUserId = UUID.randomUUID();
-        User mockUser = mock(User.class);
-        when(mockUser.getId()).thenReturn(mockUserId);
-        when(mockUser.getEmail()).thenReturn("test@example.com");
-        when(mockUser.getNickname()).thenReturn("testNick");
+        UserResponseDTO profile = new UserResponseDTO(mockUserId, "test@example.com", "testNick");
 
-        when(userRepository.findById(mockUserId)).thenReturn(Optional.of(mockUser));
+        when(userRepository.findProfileById(mockUserId)).thenReturn(Optional.of(profile));
 
         // when
-        ResponseEntity<?> result = userService.me(mockUserId);
+        ResponseEntity<UserResponseDTO> result = userService.me(mockUserId);
 
         // then
         assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isEqualTo(profile);   // projection을 그대로 응답
 
-        @SuppressWarnings("unchecked")
-        Map<String, Object> body = (Map<String, Object>) result.getBody();
-
-        assertThat(body).isNotNull();
-        assertThat(body.get("email")).isEqualTo("test@example.com");
-        assertThat(body.get("nickname")).isEqualTo("testNick");
-        assertThat(body.get("id")).isEqualTo(mockUserId);
-
-        verify(userRepository).findById(mockUserId);
+        verify(userRepository).findProfileById(mockUserId);
+        verify(userRepository, never()).findById(any());   // 엔티티는 로딩하지 않음
     }
 
     @Test
@@ -266,13 +412,18 @@ class UserServiceTest {
     void me_Fail_UserNotFound() {
         // given
         UUID mockUserId = UUID.randomUUID();
-        when(userRepository.findById(mockUserId)).thenReturn(Optional.empty());
+        when(userRepository.findProfileById(mockUserId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> userService.me(mockUserId))
                 .isInstanceOf(CustomException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
 
-        verify(userRepository).findById(mockUserId);
+        verify(userRepository).findProfileById(mockUserId);
+    }
+
+    private static VerifiedToken verifiedToken(UUID userId) {
+        long now = System.currentTimeMillis();
+        return new VerifiedToken(userId, Role.USER, now, now + 60_000, UUID.randomUUID());
     }
-}
\ No newline at end of file
+}
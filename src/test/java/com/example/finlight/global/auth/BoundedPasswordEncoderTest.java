@@ -0,0 +1,82 @@
+package com.example.finlight.global.auth;
+
+import com.example.finlight.global.exception.ErrorCode;
+import com.example.finlight.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("해싱 전용 풀 PasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱과 검증 결과는 감싼 BCrypt와 같고, 해싱 시간이 기록된다.")
+    void delegates() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(1), meterRegistry);
+
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertThat(encoder.matches("password123", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").tag("op", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("op", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 429(Retry-After)로 거절한다.")
+    void rejectsWhenSaturated() throws Exception {
+        // Given: 스레드 1개 + 대기열 1칸, 해싱이 끝나지 않도록 막아 둠
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, Duration.ofSeconds(2), meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> meterRegistry.get("auth.password.hash.active").gauge().value() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> meterRegistry.get("auth.password.hash.queue").gauge().value() == 1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PASSWORD_HASHING_BUSY)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 2L);
+        assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotBlank();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotBlank();
+    }
+}
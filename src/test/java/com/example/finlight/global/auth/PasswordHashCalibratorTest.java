@@ -0,0 +1,24 @@
+package com.example.finlight.global.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BCrypt 강도 보정 테스트")
+class PasswordHashCalibratorTest {
+
+    @Test
+    @DisplayName("목표 시간이 짧으면 최소 강도, 길면 최대 강도를 넘지 않는 범위에서 더 높은 강도를 고른다.")
+    void staysWithinBounds() {
+        // When
+        int fast = PasswordHashCalibrator.bcryptStrength(Duration.ofNanos(1), 4, 8);
+        int slow = PasswordHashCalibrator.bcryptStrength(Duration.ofMinutes(1), 4, 8);
+
+        // Then
+        assertThat(fast).isEqualTo(4);
+        assertThat(slow).isEqualTo(8);
+    }
+}
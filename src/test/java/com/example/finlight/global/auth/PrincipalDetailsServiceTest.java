@@ -0,0 +1,65 @@
+package com.example.finlight.global.auth;
+
+import com.example.finlight.domain.user.entity.Role;
+import com.example.finlight.domain.user.entity.User;
+import com.example.finlight.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("로그인 사용자 조회 테스트")
+class PrincipalDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PrincipalDetailsService principalDetailsService;
+
+    @Test
+    @DisplayName("복제본에 아직 없는 사용자(가입 직후)는 primary에서 다시 찾는다.")
+    void replicaMissFallsBackToPrimary() {
+        // Given
+        User user = User.createUser("a@test.com", "nick", "{bcrypt}hash", "local_a@test.com", Role.USER);
+        when(userRepository.findByUsername("local_a@test.com")).thenReturn(Optional.empty());
+        when(userRepository.findByUsernameOnPrimary("local_a@test.com")).thenReturn(Optional.of(user));
+
+        // When
+        UserDetails details = principalDetailsService.loadUserByUsername("local_a@test.com");
+
+        // Then
+        assertThat(((PrincipalDetails) details).getUser()).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("복제본에서 찾으면 primary는 조회하지 않고, 둘 다 없으면 예외를 던진다.")
+    void primaryOnlyOnMiss() {
+        // Given
+        User user = User.createUser("a@test.com", "nick", "{bcrypt}hash", "local_a@test.com", Role.USER);
+        when(userRepository.findByUsername("local_a@test.com")).thenReturn(Optional.of(user));
+        when(userRepository.findByUsername("local_b@test.com")).thenReturn(Optional.empty());
+        when(userRepository.findByUsernameOnPrimary("local_b@test.com")).thenReturn(Optional.empty());
+
+        // When
+        principalDetailsService.loadUserByUsername("local_a@test.com");
+
+        // Then
+        verify(userRepository, never()).findByUsernameOnPrimary("local_a@test.com");
+        assertThatThrownBy(() -> principalDetailsService.loadUserByUsername("local_b@test.com"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+}
@@ -1,15 +1,24 @@
 package com.example.finlight.global.auth.jwt;
 
+import com.example.finlight.domain.user.entity.Role;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 // junit 단위 테스트
 
@@ -105,4 +114,165 @@ class JwtUtilTest {
         // Then - 유효성 검증이 성공했는지를 검증
         assertThat(isValid).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("한 번의 검증으로 사용자 Id와 만료 시각을 함께 얻을 수 있어야 한다.")
+    void verifyTest() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String testToken = jwtUtil.createAccessToken(userId);
+
+        // When
+        VerifiedToken verified = jwtUtil.verify(testToken);
+
+        // Then
+        assertThat(verified).isNotNull();
+        assertThat(verified.userId()).isEqualTo(userId);
+        assertThat(verified.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+        assertThat(jwtUtil.verify(testToken + "x")).isNull();   // 서명이 변조되면 null
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 유효하지 않다.")
+    void expiredTokenIsInvalid() {
+        // Given - 이미 만료된 토큰을 같은 키로 직접 생성
+        Instant past = Instant.now().minusSeconds(120);
+        String expiredToken = Jwts.builder()
+                .setSubject(UUID.randomUUID().toString())
+                .setIssuedAt(Date.from(past))
+                .setExpiration(Date.from(past.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(TEST_SECRET_KEY.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+
+        // When & Then
+        assertThat(jwtUtil.isTokenValid(expiredToken)).isFalse();
+        assertThatThrownBy(() -> jwtUtil.extractUserId(expiredToken)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("payload가 변조되거나 다른 키로 서명된 토큰은 유효하지 않다.")
+    void tamperedTokenIsInvalid() {
+        // Given
+        String token = jwtUtil.createAccessToken(UUID.randomUUID());
+        String[] parts = token.split("\\.");
+        String otherPayload = jwtUtil.createAccessToken(UUID.randomUUID()).split("\\.")[1];
+        String tampered = parts[0] + "." + otherPayload + "." + parts[2];
+
+        JwtUtil otherKeyUtil = new JwtUtil(TEST_SECRET_KEY.replace('m', 'n'), TEST_ACCESS_TOKEN_VALIDITY, TEST_REFRESH_TOKEN_VALIDITY);
+        String signedWithOtherKey = otherKeyUtil.createAccessToken(UUID.randomUUID());
+
+        // When & Then
+        assertThat(jwtUtil.isTokenValid(tampered)).isFalse();
+        assertThat(jwtUtil.isTokenValid(signedWithOtherKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 예외 없이 유효하지 않다고 판단한다.")
+    void malformedTokenIsInvalid() {
+        assertThat(jwtUtil.isTokenValid("")).isFalse();
+        assertThat(jwtUtil.isTokenValid("abc")).isFalse();
+        assertThat(jwtUtil.isTokenValid("a.b")).isFalse();
+        assertThat(jwtUtil.isTokenValid("a..c")).isFalse();
+        assertThat(jwtUtil.isTokenValid("a.b.c.d")).isFalse();
+        assertThat(jwtUtil.isTokenValid("###.$$$.%%%")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 claim이 함께 있어도 필요한 claim만 정확히 읽는다.")
+    void readsOnlyKnownClaims() {
+        // Given - 알 수 없는 claim(중첩 객체, 배열, 이스케이프 문자열)이 섞인 토큰
+        UUID userId = UUID.randomUUID();
+        Instant now = Instant.now();
+        String token = Jwts.builder()
+                .claim("meta", java.util.Map.of("nested", java.util.List.of(1, "}", "\"q\"")))
+                .setSubject(userId.toString())
+                .claim("flag", true)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(TEST_SECRET_KEY.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+
+        // When
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        // Then
+        assertThat(verified).isNotNull();
+        assertThat(verified.userId()).isEqualTo(userId);
+        assertThat(verified.issuedAtMillis()).isEqualTo(now.getEpochSecond() * 1000);
+        assertThat(verified.expiresAtMillis()).isEqualTo((now.getEpochSecond() + 60) * 1000);
+    }
+
+    @Test
+    @DisplayName("alg가 HS512가 아니거나 길이 상한을 넘는 토큰은 서명 검증 전에 거절한다.")
+    void rejectsBeforeSignatureCheck() {
+        // Given - 정상 토큰의 payload/signature를 그대로 두고 header만 {"alg":"none"} 으로 교체
+        String token = jwtUtil.createAccessToken(UUID.randomUUID());
+        String noneHeader = java.util.Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String algNone = noneHeader + token.substring(token.indexOf('.'));
+
+        // header에 다른 필드가 있어도 alg가 HS512로 올바르게 서명됐다면 허용 (디코딩 경로)
+        Instant now = Instant.now();
+        String withTyp = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject(UUID.randomUUID().toString())
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(TEST_SECRET_KEY.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+
+        String oversized = token.substring(0, token.indexOf('.') + 1)
+                + "A".repeat(JwtUtil.MAX_TOKEN_LENGTH) + token.substring(token.lastIndexOf('.'));
+
+        // When & Then
+        assertThat(jwtUtil.isTokenValid(algNone)).isFalse();
+        assertThat(jwtUtil.isTokenValid(withTyp)).isTrue();
+        assertThat(jwtUtil.isTokenValid(oversized)).isFalse();
+        assertThat(jwtUtil.isTokenValid(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("토큰에 담은 role을 검증 결과로 복원하고, role이 없는 토큰은 USER로 본다.")
+    void roleClaimTest() {
+        // Given
+        UUID adminId = UUID.randomUUID();
+        String adminToken = jwtUtil.createAccessToken(adminId, Role.ADMIN);
+
+        Instant now = Instant.now();
+        String legacyToken = Jwts.builder()     // role 도입 전 형식의 토큰
+                .setSubject(UUID.randomUUID().toString())
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plusSeconds(60)))
+                .signWith(Keys.hmacShaKeyFor(TEST_SECRET_KEY.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+
+        // When
+        VerifiedToken admin = jwtUtil.verify(adminToken);
+        VerifiedToken legacy = jwtUtil.verify(legacyToken);
+
+        // Then
+        assertThat(admin.role()).isEqualTo(Role.ADMIN);
+        assertThat(new JwtAuthentication(admin).getAuthorities()).containsExactly(Role.ADMIN);
+        assertThat(legacy.role()).isEqualTo(Role.USER);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 기기 세션(sid)을 담고, 같은 세션으로 다시 발급해도 토큰은 매번 달라진다.")
+    void refreshTokenSessionTest() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+
+        // When
+        String first = jwtUtil.createRefreshToken(userId, sessionId);
+        String rotated = jwtUtil.createRefreshToken(userId, sessionId);
+        VerifiedToken verified = jwtUtil.verify(first);
+
+        // Then
+        assertThat(verified.sessionId()).isEqualTo(sessionId);
+        assertThat(verified.userId()).isEqualTo(userId);
+        assertThat(rotated).isNotEqualTo(first);   // 같은 초에 발급해도 jti로 구분
+        assertThat(jwtUtil.verify(rotated).sessionId()).isEqualTo(sessionId);
+        assertThat(jwtUtil.verify(jwtUtil.createAccessToken(userId)).sessionId()).isNull();   // 액세스 토큰엔 세션 없음
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.finlight.global.auth.jwt;
+
+import com.example.finlight.domain.user.entity.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검증된 토큰 캐시 테스트")
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(3);
+
+    @Test
+    @DisplayName("한 번 저장한 토큰은 다시 검증하지 않고 캐시에서 꺼낼 수 있다.")
+    void hitAfterPut() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        JwtAuthentication authentication = auth(userId, System.currentTimeMillis() + 60_000);
+        cache.put("a.b.c", authentication);
+
+        // When
+        JwtAuthentication result = cache.get("a.b.c");
+
+        // Then
+        assertThat(result).isSameAs(authentication);   // 같은 인증 객체를 재사용
+        assertThat(cache.get("a.b.d")).isNull();   // 다른 토큰은 미스
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 조회 시 제거되고 null을 반환한다.")
+    void expiredEntryIsEvicted() {
+        // Given
+        cache.put("a.b.c", auth(UUID.randomUUID(), System.currentTimeMillis() - 1));
+
+        // When
+        JwtAuthentication result = cache.get("a.b.c");
+
+        // Then
+        assertThat(result).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘겨 저장하지 않는다.")
+    void boundedSize() {
+        // Given
+        long exp = System.currentTimeMillis() + 60_000;
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            cache.put("token" + i, auth(UUID.randomUUID(), exp));
+        }
+
+        // Then
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+        assertThat(cache.get("token9")).isNotNull();   // 마지막에 넣은 항목은 남아 있어야 함
+    }
+
+    private static JwtAuthentication auth(UUID userId, long expiresAtMillis) {
+        return new JwtAuthentication(new VerifiedToken(userId, Role.USER, 0, expiresAtMillis));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.finlight.global.auth.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("프로세스 내부 로그인 시도 제한 테스트")
+class InMemoryLoginAttemptLimiterTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_040_000L);   // 윈도우 시작 시각에 맞춤
+    private final InMemoryLoginAttemptLimiter limiter = new InMemoryLoginAttemptLimiter(128, now::get);
+
+    @Test
+    @DisplayName("허용 횟수를 넘으면 거절하고, 직전 윈도우의 시도가 충분히 빠져나간 뒤에야 다시 허용한다.")
+    void slidingWindow() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user:a", 3, WINDOW)).isZero();
+        }
+
+        // When
+        long waitMillis = limiter.tryAcquire("user:a", 3, WINDOW);
+
+        // Then
+        assertThat(waitMillis).isEqualTo(80_000);   // 다음 윈도우 + 직전 3회의 가중치가 2회 이하로 줄어들 때까지
+        now.addAndGet(WINDOW.toMillis());
+        assertThat(limiter.tryAcquire("user:a", 3, WINDOW)).isPositive();   // 고정 윈도우와 달리 경계를 넘자마자 풀리지 않음
+        now.addAndGet(waitMillis - WINDOW.toMillis());
+        assertThat(limiter.tryAcquire("user:a", 3, WINDOW)).isZero();
+    }
+
+    @Test
+    @DisplayName("키마다 따로 세고, 초기화하면 그 키만 다시 허용한다.")
+    void resetOnlyTargetKey() {
+        // Given
+        assertThat(limiter.tryAcquire("user:a", 1, WINDOW)).isZero();
+        assertThat(limiter.tryAcquire("user:b", 1, WINDOW)).isZero();
+
+        // When
+        limiter.reset("user:a");
+
+        // Then
+        assertThat(limiter.tryAcquire("user:a", 1, WINDOW)).isZero();
+        assertThat(limiter.tryAcquire("user:b", 1, WINDOW)).isPositive();
+    }
+
+    @Test
+    @DisplayName("되돌린 시도는 한도에서 빠지고, 윈도우가 넘어간 뒤에는 직전 윈도우에서 빠진다.")
+    void releaseGivesBackAttempt() {
+        // Given
+        assertThat(limiter.tryAcquire("ip:a", 2, WINDOW)).isZero();
+        assertThat(limiter.tryAcquire("ip:a", 2, WINDOW)).isZero();
+        assertThat(limiter.tryAcquire("ip:a", 2, WINDOW)).isPositive();
+
+        // When
+        limiter.release("ip:a", WINDOW);
+
+        // Then
+        assertThat(limiter.tryAcquire("ip:a", 2, WINDOW)).isZero();
+
+        // When: 다음 윈도우 시작 직후 - 직전 윈도우 2회가 거의 그대로 반영됨
+        now.addAndGet(WINDOW.toMillis());
+        assertThat(limiter.tryAcquire("ip:a", 2, WINDOW)).isPositive();
+        limiter.release("ip:a", WINDOW);
+
+        // Then
+        assertThat(limiter.tryAcquire("ip:a", 2, WINDOW)).isZero();
+        limiter.release("ip:unknown", WINDOW);   // 기록이 없는 키는 아무것도 하지 않음
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 키가 계속 들어와도 보관하는 키 수는 상한을 넘지 않는다.")
+    void boundedKeys() {
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("ip:10.0." + (i / 256) + "." + (i % 256), 100, WINDOW);
+        }
+
+        // Then
+        assertThat(limiter.size()).isLessThanOrEqualTo(128);
+    }
+}
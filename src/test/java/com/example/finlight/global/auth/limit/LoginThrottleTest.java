@@ -0,0 +1,75 @@
+package com.example.finlight.global.auth.limit;
+
+import com.example.finlight.global.exception.ErrorCode;
+import com.example.finlight.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("로그인 시도 제한 테스트")
+class LoginThrottleTest {
+
+    @Mock
+    private LoginAttemptLimiter limiter;
+
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        loginThrottle = new LoginThrottle(limiter, 100, 10, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("username 키는 길이와 관계없이 고정 길이 해시로 만든다.")
+    void usernameKeyHasFixedLength() {
+        // Given
+        String longUsername = "local_" + "a".repeat(100_000) + "@test.com";
+
+        // When
+        String key = LoginThrottle.usernameKey(longUsername);
+
+        // Then
+        assertThat(key).startsWith("user:").hasSize("user:".length() + 43)
+                .isEqualTo(LoginThrottle.usernameKey(longUsername))
+                .isNotEqualTo(LoginThrottle.usernameKey("local_b@test.com"));
+        loginThrottle.check("127.0.0.1", longUsername);
+        verify(limiter).tryAcquire(eq(key), eq(10), eq(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("로그인에 성공하면 username 기록은 지우고 IP 쪽은 그 시도 하나만 되돌린다.")
+    void succeededReleasesIpAttempt() {
+        // When
+        loginThrottle.succeeded("127.0.0.1", "local_a@test.com");
+
+        // Then
+        verify(limiter).release("ip:127.0.0.1", Duration.ofMinutes(5));
+        verify(limiter).reset(LoginThrottle.usernameKey("local_a@test.com"));
+    }
+
+    @Test
+    @DisplayName("로그인 성공 후 기록 정리가 저장소 장애로 실패해도 예외를 던지지 않는다.")
+    void succeededIsBestEffort() {
+        // Given
+        willThrow(new ServiceUnavailableException(ErrorCode.AUTH_STORE_UNAVAILABLE, Duration.ofSeconds(10)))
+                .given(limiter).release(anyString(), any(Duration.class));
+
+        // When & Then
+        assertThatCode(() -> loginThrottle.succeeded("127.0.0.1", "local_a@test.com")).doesNotThrowAnyException();
+    }
+}
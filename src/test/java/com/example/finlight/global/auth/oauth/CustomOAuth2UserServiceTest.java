@@ -2,6 +2,7 @@ package com.example.finlight.global.auth.oauth;
 
 import com.example.finlight.domain.user.entity.User;
 import com.example.finlight.domain.user.repository.UserRepository;
+import com.example.finlight.domain.user.service.UserAvailabilityService;
 import com.example.finlight.global.auth.PrincipalDetails;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -20,6 +20,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,7 +36,7 @@ class CustomOAuth2UserServiceTest {
     private UserRepository userRepository;     // 실제 DB와 상호작용 하지 않음
 
     @Mock
-    private PasswordEncoder passwordEncoder;   // 실제 인코딩 로직을 실행하지 않음
+    private UserAvailabilityService userAvailabilityService;
 
     // @InjectMocks: 위의 Mock 객체들을 자동으로 주입해서 실제 테스트할 서비스 객체를 생성
     @InjectMocks
@@ -43,7 +44,7 @@ class CustomOAuth2UserServiceTest {
 
     // [테스트 시나리오 1: 신규 사용자가 구글로 로그인할 때]
     @Test
-    @DisplayName("구글로 신규 회원가입 시, 새로운 User 객체를 생성하여 저장하고 반환한다.")
+    @DisplayName("구글로 신규 회원가입 시, 기존 회원 조회와 비밀번호 해싱 없이 upsert 한 번으로 저장하고 반환한다.")
     void signUpWithGoogleSuccess() throws OAuth2AuthenticationException {
         // [Given - 테스트 데이터/환경을 준비]
 
@@ -65,11 +66,8 @@ class CustomOAuth2UserServiceTest {
         attributes.put("name", "홍길동");
         when(oAuth2User.getAttributes()).thenReturn(attributes);
 
-        // UserRepository가 기존 유저를 찾지 못하도록 설정
-        when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
-
-        // PasswordEncoder가 어떤 문자열을 인코딩해도 "encoded_password"를 반환하도록 설정
-        when(passwordEncoder.encode(anyString())).thenReturn("encoded_password");
+        // Bloom filter에 없는 username (Mock 기본값 false) -> 처음 온 사용자, upsert가 새 행을 저장하도록 설정
+        when(userRepository.insertIfAbsent(any(User.class))).thenReturn(true);
 
         // [When - 테스트 대상 메소드 실행]
         OAuth2User result = spyService.loadUser(oAuth2UserRequest);
@@ -77,20 +75,23 @@ class CustomOAuth2UserServiceTest {
         // [Then - 결과 검증]
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
-        // userRepository.findByUsername() 메소드가 "google_123456789"를 인자로 한 번 호출되었는지 확인
-        verify(userRepository, times(1)).findByUsername(eq("google_123456789"));
+        // 확실히 신규인 사용자라 기존 회원 조회(SELECT)는 하지 않음
+        verify(userRepository, never()).findByUsername(anyString());
 
-        // userRepository의 save()메소드가 한 번 호출, 이때 전달된 User 객체를 userCaptor에 담기
-        verify(userRepository, times(1)).save(userCaptor.capture());
+        // userRepository의 insertIfAbsent()메소드가 한 번 호출, 이때 전달된 User 객체를 userCaptor에 담기
+        verify(userRepository, times(1)).insertIfAbsent(userCaptor.capture());
+        verify(userRepository, never()).save(any(User.class));
 
-        // capturedUser - userRepository.save()에 전달된 User 객체
+        // capturedUser - userRepository.insertIfAbsent()에 전달된 User 객체
         User capturedUser = userCaptor.getValue();
 
         // Repository에 제대로 값이 전달되었는가
         assertThat(capturedUser.getUsername()).isEqualTo("google_123456789");
         assertThat(capturedUser.getEmail()).isEqualTo("test@gmail.com");
         assertThat(capturedUser.getNickname()).isEqualTo("홍길동");
-        assertThat(capturedUser.getPassword()).isEqualTo("encoded_password");
+        assertThat(capturedUser.getPassword()).isEqualTo(User.UNUSABLE_PASSWORD);   // 해싱하지 않은 고정값
+        assertThat(capturedUser.getId()).isNotNull();
+        verify(userAvailabilityService).record("google_123456789", "홍길동");
 
         // 최종 반환된 PrincipalDetails 객체의 username 필드 확인
         assertThat(result).isInstanceOf(PrincipalDetails.class);
@@ -104,7 +105,7 @@ class CustomOAuth2UserServiceTest {
         OAuth2UserRequest oAuth2UserRequest = mock(OAuth2UserRequest.class);
         OAuth2User oAuth2User = mock(OAuth2User.class);
 
-        User existedUser = User.createOAuthUser("test@naver.com", "홍길동", "kakao_123456", "encoded_password");
+        User existedUser = User.createOAuthUser(UUID.randomUUID(), "test@naver.com", "홍길동", "kakao_123456");
 
         Map<String, Object> attributes = new HashMap<>();
         attributes.put("id", 123456);
@@ -113,6 +114,7 @@ class CustomOAuth2UserServiceTest {
         when(oAuth2UserRequest.getClientRegistration()).thenReturn(mock(ClientRegistration.class));
         when(oAuth2UserRequest.getClientRegistration().getRegistrationId()).thenReturn("kakao");
 
+        when(userAvailabilityService.mightBeTaken(eq("kakao_123456"))).thenReturn(true);
         when(userRepository.findByUsername(eq("kakao_123456"))).thenReturn(Optional.of(existedUser));
 
         CustomOAuth2UserService spyService = spy(customOAuth2UserService);
@@ -126,10 +128,39 @@ class CustomOAuth2UserServiceTest {
         // Then
         verify(userRepository, times(1)).findByUsername(eq("kakao_123456"));
         verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).insertIfAbsent(any(User.class));
         assertThat(((PrincipalDetails) result).getUsername()).isEqualTo("kakao_123456");
 
     }
 
+    @Test
+    @DisplayName("동시 로그인으로 다른 요청이 먼저 저장했다면 예외 없이 그 회원으로 로그인한다.")
+    void concurrentFirstLoginUsesExistingUser() {
+        // Given
+        OAuth2UserRequest oAuth2UserRequest = mock(OAuth2UserRequest.class);
+        OAuth2User oAuth2User = mock(OAuth2User.class);
+
+        User savedByOtherRequest = User.createOAuthUser(UUID.randomUUID(), "test@gmail.com", "홍길동", "google_123456789");
+
+        when(oAuth2UserRequest.getClientRegistration()).thenReturn(mock(ClientRegistration.class));
+        when(oAuth2UserRequest.getClientRegistration().getRegistrationId()).thenReturn("google");
+        when(oAuth2User.getAttributes()).thenReturn(Map.of("sub", "123456789", "email", "test@gmail.com", "name", "홍길동"));
+
+        CustomOAuth2UserService spyService = spy(customOAuth2UserService);
+        doReturn(oAuth2User).when(spyService).loadUserFromProvider(oAuth2UserRequest);
+
+        // ON CONFLICT (username) DO NOTHING -> 저장된 행 없음
+        when(userRepository.insertIfAbsent(any(User.class))).thenReturn(false);
+        when(userRepository.findByUsernameOnPrimary(eq("google_123456789"))).thenReturn(Optional.of(savedByOtherRequest));
+
+        // When
+        OAuth2User result = spyService.loadUser(oAuth2UserRequest);
+
+        // Then
+        assertThat(((PrincipalDetails) result).getUser()).isSameAs(savedByOtherRequest);
+        verify(userAvailabilityService, never()).record(anyString(), anyString());
+    }
+
     @Test
     @DisplayName("지원하지 않는 소셜 로그인이면 예외를 던진다.")
     void unsupportedLoginProviderThrowsException() {
@@ -0,0 +1,179 @@
+package com.example.finlight.global.auth.oauth;
+
+import com.example.finlight.global.config.OAuth2ClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2AuthorizationException;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 실제 구글/카카오 대신 로컬 스텁 서버(JDK HttpServer)에 OAuth2ClientConfig의 클라이언트로 호출
+@DisplayName("OAuth 제공자 호출 클라이언트 테스트")
+class OAuth2ProviderMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OAuth2ClientConfig config = new OAuth2ClientConfig();
+    private final ExecutorService stubThreads = Executors.newCachedThreadPool();
+
+    private HttpServer stub;
+    private CloseableHttpClient httpClient;
+    private ClientRegistration google;
+    private ClientRegistration kakao;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(stubThreads);
+        stub.createContext("/google/userinfo", exchange -> respond(exchange, 200, "{\"sub\":\"123456789\",\"email\":\"test@gmail.com\"}"));
+        stub.createContext("/google/token", exchange -> respond(exchange, 500, "{\"error\":\"server_error\"}"));
+        stub.createContext("/kakao/userinfo", exchange -> {
+            sleep(2_000);   // 응답 제한(300ms)보다 느린 제공자
+            respond(exchange, 200, "{\"id\":1}");
+        });
+        stub.start();
+
+        String base = "http://127.0.0.1:" + stub.getAddress().getPort();
+        google = registration("google", base + "/google", "sub");
+        kakao = registration("kakao", base + "/kakao", "id");
+        httpClient = config.oauth2HttpClient(Duration.ofMillis(300), Duration.ofMillis(300), Duration.ofMillis(300), 10, 5, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        stub.stop(0);
+        stubThreads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 지연 시간이 제공자/엔드포인트별로 기록된다.")
+    void userInfoLatencyPerProvider() {
+        // Given
+        DefaultOAuth2UserService userService = userService();
+
+        // When
+        OAuth2User user = userService.loadUser(new OAuth2UserRequest(google, accessToken()));
+
+        // Then
+        assertThat(user.getName()).isEqualTo("123456789");
+        assertThat(meterRegistry.get("auth.oauth.provider.requests")
+                .tags("provider", "google", "endpoint", "userinfo", "status", "200")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 제공자는 응답 제한 시간에 끊고 timeout 오류로 센다.")
+    void slowProviderTimesOut() {
+        // Given
+        DefaultOAuth2UserService userService = userService();
+        long startedAt = System.nanoTime();
+
+        // When & Then
+        assertThatThrownBy(() -> userService.loadUser(new OAuth2UserRequest(kakao, accessToken())))
+                .isInstanceOf(OAuth2AuthenticationException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(1_500));   // 스텁의 2초를 기다리지 않음
+        assertThat(meterRegistry.get("auth.oauth.provider.errors")
+                .tags("provider", "kakao", "endpoint", "userinfo", "reason", "timeout")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 교환이 5xx로 실패하면 token 엔드포인트 오류로 센다.")
+    void tokenEndpointServerError() {
+        // Given
+        OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> tokenClient =
+                config.oauth2AccessTokenResponseClient(httpClient, interceptor());
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(google.getProviderDetails().getAuthorizationUri())
+                .clientId(google.getClientId())
+                .redirectUri(google.getRedirectUri())
+                .state("state")
+                .build();
+        OAuth2AuthorizationResponse authorizationResponse = OAuth2AuthorizationResponse.success("code")
+                .redirectUri(google.getRedirectUri())
+                .state("state")
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> tokenClient.getTokenResponse(new OAuth2AuthorizationCodeGrantRequest(
+                google, new OAuth2AuthorizationExchange(authorizationRequest, authorizationResponse))))
+                .isInstanceOf(OAuth2AuthorizationException.class);
+        assertThat(meterRegistry.get("auth.oauth.provider.errors")
+                .tags("provider", "google", "endpoint", "token", "reason", "5xx")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private DefaultOAuth2UserService userService() {
+        DefaultOAuth2UserService userService = new DefaultOAuth2UserService();
+        userService.setRestOperations(config.oauth2UserInfoRestTemplate(httpClient, interceptor()));
+        return userService;
+    }
+
+    private OAuth2ProviderMetricsInterceptor interceptor() {
+        return new OAuth2ProviderMetricsInterceptor(List.of(google, kakao), meterRegistry);
+    }
+
+    private static ClientRegistration registration(String id, String base, String userNameAttribute) {
+        return ClientRegistration.withRegistrationId(id)
+                .clientId("client-id")
+                .clientSecret("client-secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost/login/oauth2/code/" + id)
+                .authorizationUri(base + "/authorize")
+                .tokenUri(base + "/token")
+                .userInfoUri(base + "/userinfo")
+                .userNameAttributeName(userNameAttribute)
+                .build();
+    }
+
+    private static OAuth2AccessToken accessToken() {
+        return new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-token",
+                Instant.now(), Instant.now().plusSeconds(60));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
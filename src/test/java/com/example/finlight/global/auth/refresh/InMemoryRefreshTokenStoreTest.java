@@ -0,0 +1,156 @@
+package com.example.finlight.global.auth.refresh;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("프로세스 내부 Refresh Token 저장소 테스트")
+class InMemoryRefreshTokenStoreTest {
+
+    private static final Duration TTL = Duration.ofHours(2);
+    private static final Duration REUSE_GRACE = Duration.ofSeconds(5);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(2, REUSE_GRACE, now::get);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("기기마다 세션이 따로 저장되고, 최대 개수를 넘으면 가장 오래 안 쓴 기기가 밀려난다.")
+    void sessionsPerDeviceWithLruEviction() {
+        // Given
+        UUID phone = UUID.randomUUID();
+        UUID web = UUID.randomUUID();
+        UUID tablet = UUID.randomUUID();
+        store.save(userId, phone, "phone-1", TTL);
+        now.addAndGet(1_000);
+        store.save(userId, web, "web-1", TTL);
+        now.addAndGet(1_000);
+        store.rotate(userId, phone, "phone-1", "phone-2", TTL);   // phone을 최근에 사용
+
+        // When
+        store.save(userId, tablet, "tablet-1", TTL);
+
+        // Then
+        assertThat(store.verifyRefreshToken(userId, phone, "phone-2")).isTrue();
+        assertThat(store.verifyRefreshToken(userId, tablet, "tablet-1")).isTrue();
+        assertThat(store.verifyRefreshToken(userId, web, "web-1")).isFalse();   // 가장 오래 안 쓴 기기
+        assertThat(store.verifyRefreshToken(userId, "tablet-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰으로 유예 시간이 지난 뒤 로테이션하면 재사용으로 탐지하고 세션을 폐기한다.")
+    void reuseDetectionRevokesSession() {
+        // Given
+        UUID sessionId = UUID.randomUUID();
+        store.save(userId, sessionId, "rt-1", TTL);
+        assertThat(store.rotate(userId, sessionId, "rt-1", "rt-2", TTL)).isEqualTo(RotationResult.ROTATED);
+        now.addAndGet(REUSE_GRACE.toMillis() + 1);
+
+        // When
+        RotationResult reuse = store.rotate(userId, sessionId, "rt-1", "rt-3", TTL);
+
+        // Then
+        assertThat(reuse).isEqualTo(RotationResult.REUSE_DETECTED);
+        assertThat(store.rotate(userId, sessionId, "rt-2", "rt-3", TTL)).isEqualTo(RotationResult.MISMATCH);
+        assertThat(store.userCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 재발급에서 진 요청(방금 교체된 토큰)은 실패만 하고 세션은 유지된다.")
+    void concurrentRefreshLoserKeepsSession() {
+        // Given: 탭 A가 rt-1을 rt-2로 교체
+        UUID sessionId = UUID.randomUUID();
+        store.save(userId, sessionId, "rt-1", TTL);
+        assertThat(store.rotate(userId, sessionId, "rt-1", "rt-2", TTL)).isEqualTo(RotationResult.ROTATED);
+
+        // When: 탭 B가 조금 늦게 같은 rt-1로 재발급 시도
+        now.addAndGet(100);
+        RotationResult loser = store.rotate(userId, sessionId, "rt-1", "rt-3", TTL);
+
+        // Then
+        assertThat(loser).isEqualTo(RotationResult.MISMATCH);
+        assertThat(store.verifyRefreshToken(userId, sessionId, "rt-2")).isTrue();   // 승자의 토큰으로 계속 사용
+        assertThat(store.rotate(userId, sessionId, "rt-2", "rt-4", TTL)).isEqualTo(RotationResult.ROTATED);
+        assertThat(store.rotate(userId, sessionId, "rt-1", "rt-5", TTL)).isEqualTo(RotationResult.REUSE_DETECTED);   // 두 세대 전 토큰은 유예 없음
+    }
+
+    @Test
+    @DisplayName("만료된 세션은 타이밍 휠이 돌면서 제거되고, 로테이션으로 연장된 세션은 유지된다.")
+    void expiryThroughTimingWheel() {
+        // Given
+        UUID expiring = UUID.randomUUID();
+        UUID extended = UUID.randomUUID();
+        store.save(userId, expiring, "a", TTL);
+        store.save(userId, extended, "b", TTL);
+        now.addAndGet(TTL.toMillis() / 2);
+        store.rotate(userId, extended, "b", "b-2", TTL);
+
+        // When: 처음 저장한 TTL만큼 지남
+        now.addAndGet(TTL.toMillis() / 2 + 1_000);
+        store.expireDue();
+
+        // Then
+        assertThat(store.verifyRefreshToken(userId, expiring, "a")).isFalse();
+        assertThat(store.rotate(userId, expiring, "a", "a-2", TTL)).isEqualTo(RotationResult.MISMATCH);
+        assertThat(store.verifyRefreshToken(userId, extended, "b-2")).isTrue();
+
+        // When: 연장된 세션의 TTL까지 지남
+        now.addAndGet(TTL.toMillis());
+        store.expireDue();
+
+        // Then: 사용자 항목까지 정리되어 메모리가 회수됨
+        assertThat(store.userCount()).isZero();
+        assertThat(store.scheduledExpiries()).isZero();
+    }
+
+    @Test
+    @DisplayName("로테이션을 반복해도 타이밍 휠에는 세션당 만료 항목이 하나만 남는다.")
+    void oneWheelEntryPerSession() {
+        // Given
+        UUID sessionId = UUID.randomUUID();
+        store.save(userId, sessionId, "rt-0", TTL);
+
+        // When: 토큰 재발급을 여러 번
+        for (int i = 0; i < 100; i++) {
+            now.addAndGet(60_000);
+            store.rotate(userId, sessionId, "rt-" + i, "rt-" + (i + 1), TTL);
+        }
+        now.addAndGet(TTL.toMillis() - 60_000);   // 처음 저장한 만료 시각은 지났지만 연장된 만료 시각 전
+        store.expireDue();
+
+        // Then
+        assertThat(store.scheduledExpiries()).isEqualTo(1);
+        assertThat(store.verifyRefreshToken(userId, sessionId, "rt-100")).isTrue();
+    }
+
+    @Test
+    @DisplayName("타이밍 휠은 하위 레벨 범위를 넘는 먼 만료 시각도 정확한 tick에 꺼낸다.")
+    void timingWheelCascades() {
+        // Given: tick 1초, 여러 레벨에 걸친 만료 시각
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 0);
+        wheel.schedule("10s", 10_000);
+        wheel.schedule("2h", 7_200_000);
+        wheel.schedule("14d", Duration.ofDays(14).toMillis());
+        StringBuilder fired = new StringBuilder();
+
+        // When & Then
+        wheel.advance(9_999, fired::append);
+        assertThat(fired.toString()).isEmpty();
+        wheel.advance(10_000, fired::append);
+        assertThat(fired.toString()).isEqualTo("10s");
+        wheel.advance(7_199_999, fired::append);
+        assertThat(fired.toString()).isEqualTo("10s");
+        wheel.advance(7_200_000, fired::append);
+        assertThat(fired.toString()).isEqualTo("10s2h");
+        wheel.advance(Duration.ofDays(14).toMillis() - 1, fired::append);
+        assertThat(wheel.size()).isEqualTo(1);
+        wheel.advance(Duration.ofDays(14).toMillis(), fired::append);
+        assertThat(fired.toString()).isEqualTo("10s2h14d");
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.finlight.global.auth.route;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("공개 경로 라우트 테이블 테스트")
+class RouteTableTest {
+
+    private final RouteTable table = PublicRoutes.table();
+
+    @Test
+    @DisplayName("정확히 일치하는 경로와 /** 하위 경로는 공개 경로로 판단한다.")
+    void matchesPublicRoutes() {
+        assertThat(table.matches("GET", "/")).isTrue();
+        assertThat(table.matches("POST", "/login")).isTrue();
+        assertThat(table.matches("GET", "/swagger-ui.html")).isTrue();
+        assertThat(table.matches("GET", "/swagger-ui/index.html")).isTrue();
+        assertThat(table.matches("GET", "/v3/api-docs")).isTrue();
+        assertThat(table.matches("GET", "/oauth2/authorization/google")).isTrue();
+    }
+
+    @Test
+    @DisplayName("메소드가 제한된 경로는 해당 메소드에서만 공개 경로다.")
+    void methodSpecificRoutes() {
+        assertThat(table.matches("POST", "/api/users/refresh")).isTrue();
+        assertThat(table.matches("GET", "/api/users/refresh")).isFalse();
+        assertThat(table.matches("GET", "/api/users/availability")).isTrue();
+        assertThat(table.matches("POST", "/api/users/availability")).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두사만 같은 경로나 인증이 필요한 경로는 공개 경로가 아니다.")
+    void rejectsProtectedRoutes() {
+        assertThat(table.matches("GET", "/api/users/me")).isFalse();
+        assertThat(table.matches("POST", "/api/users/logout")).isFalse();
+        assertThat(table.matches("GET", "/oauth2x")).isFalse();
+        assertThat(table.matches("GET", "/loginx")).isFalse();
+        assertThat(table.matches("GET", "/actuator/metrics")).isFalse();
+    }
+}
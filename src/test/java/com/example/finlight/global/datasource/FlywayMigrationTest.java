@@ -0,0 +1,108 @@
+package com.example.finlight.global.datasource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 다른 테스트는 H2 + ddl-auto(create-drop)라 마이그레이션이 한 번도 실행되지 않음
+// -> 실제 PostgreSQL에 Flyway로 스키마를 만들고 ddl-auto: validate(운영 설정)로 부팅되는지 확인
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=0",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@ActiveProfiles("test")
+class FlywayMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("마이그레이션으로 만든 스키마가 엔티티 검증(ddl-auto: validate)을 통과하고 인덱스가 하나씩만 있다.")
+    void migratedSchemaPassesValidation() {
+        // Given: 컨텍스트가 떴다는 것 자체가 validate 통과
+
+        // When
+        List<String> applied = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+
+        // Then
+        assertThat(applied).containsExactly("1", "2", "3");
+        assertThat(uniqueIndexCount("public", "username")).isEqualTo(1);
+        assertThat(uniqueIndexCount("public", "nickname")).isEqualTo(1);
+        assertThat(indexNames("public")).contains("ix_users_email_lower", "ix_users_created_at_id")
+                .doesNotContain("ix_users_created_at");
+    }
+
+    @Test
+    @DisplayName("ddl-auto: update로 만들어진 기존 DB에 적용하면 Hibernate 유니크 제약이 제거되어 유니크 인덱스가 중복되지 않는다.")
+    void hibernateCreatedSchemaHasNoDuplicateUniqueIndexes() {
+        // Given: Hibernate(ddl-auto)가 만든 것과 같은 테이블 (제약 이름 포함)
+        jdbcTemplate.execute("CREATE SCHEMA legacy");
+        jdbcTemplate.execute("""
+                CREATE TABLE legacy.users (
+                    created_at timestamp(6) not null,
+                    id uuid not null,
+                    email varchar(100) not null,
+                    nickname varchar(50) not null,
+                    password varchar(225) not null,
+                    username varchar(300) not null,
+                    role varchar(20) not null check (role in ('USER','ADMIN')),
+                    primary key (id),
+                    constraint UK2ty1xmrrgtn89xt7kyxx6ta7h unique (nickname),
+                    constraint UKr43af9ap4edm43mmtq01oddj6 unique (username)
+                )""");
+
+        // When
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .schemas("legacy")
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        // Then
+        assertThat(uniqueIndexCount("legacy", "username")).isEqualTo(1);
+        assertThat(uniqueIndexCount("legacy", "nickname")).isEqualTo(1);
+        assertThat(indexNames("legacy")).contains("ux_users_username", "ux_users_nickname")
+                .noneMatch(name -> name.startsWith("uk"));
+    }
+
+    private int uniqueIndexCount(String schema, String column) {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*)
+                FROM pg_index i
+                         JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]
+                WHERE i.indrelid = (quote_ident(?) || '.users')::regclass
+                  AND i.indisunique
+                  AND i.indnatts = 1
+                  AND a.attname = ?""", Integer.class, schema, column);
+    }
+
+    private List<String> indexNames(String schema) {
+        return jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = ? AND tablename = 'users'", String.class, schema);
+    }
+}
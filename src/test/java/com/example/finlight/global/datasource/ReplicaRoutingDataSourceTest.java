@@ -0,0 +1,101 @@
+package com.example.finlight.global.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("읽기 복제본 라우팅 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본, 쓰기 트랜잭션은 primary에서 실행된다.")
+    void routesByReadOnly() {
+        // Given: 어느 DB인지 이름을 담은 H2 두 개
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                database("primary"), List.of(database("replica")), Duration.ofSeconds(5), null, meterRegistry);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        TransactionTemplate readOnlyTx = new TransactionTemplate(tx.getTransactionManager());
+        readOnlyTx.setReadOnly(true);
+
+        // When
+        String write = tx.execute(status -> whoAmI(jdbcTemplate));
+        String read = readOnlyTx.execute(status -> whoAmI(jdbcTemplate));
+
+        // Then
+        assertThat(write).isEqualTo("primary");
+        assertThat(read).isEqualTo("replica");
+        assertThat(routeCount("replica", "read")).isEqualTo(1);
+        assertThat(routeCount("primary", "write")).isPositive();   // 프록시가 처음 한 번 기본 설정 확인용 연결도 primary에서 가져감
+    }
+
+    @Test
+    @DisplayName("지연이 max-lag를 넘은 복제본은 점검 후 제외되고 primary에서 읽는다.")
+    void lagFallback() {
+        // Given: 지연 10초를 돌려주는 복제본, 허용 지연 1초
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                database("primary"), List.of(database("replica")), Duration.ofSeconds(1), "SELECT 10", meterRegistry);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+        TransactionTemplate readOnlyTx = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        readOnlyTx.setReadOnly(true);
+
+        // When
+        routing.checkReplicas();
+        String read = readOnlyTx.execute(status -> whoAmI(jdbcTemplate));
+
+        // Then
+        assertThat(read).isEqualTo("primary");
+        assertThat(routeCount("primary", "replica-unavailable")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제본 연결에 실패하면 같은 요청을 primary로 처리한다.")
+    void connectFailureFallback() {
+        // Given: 존재하지 않는 DB를 가리키는 복제본 (IFEXISTS라 새로 만들지 않고 실패)
+        JdbcDataSource broken = new JdbcDataSource();
+        broken.setURL("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                database("primary"), List.of(broken), Duration.ofSeconds(5), null, meterRegistry);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing));
+        TransactionTemplate readOnlyTx = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        readOnlyTx.setReadOnly(true);
+
+        // When
+        String read = readOnlyTx.execute(status -> whoAmI(jdbcTemplate));
+
+        // Then
+        assertThat(read).isEqualTo("primary");
+        assertThat(routeCount("primary", "replica-unavailable")).isEqualTo(1);
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE whoami (name varchar(20))");
+        jdbcTemplate.update("INSERT INTO whoami VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static String whoAmI(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private double routeCount(String target, String reason) {
+        return meterRegistry.get("datasource.route").tag("target", target).tag("reason", reason).counter().count();
+    }
+}
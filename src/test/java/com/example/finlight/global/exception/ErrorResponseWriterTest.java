@@ -0,0 +1,34 @@
+package com.example.finlight.global.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("필터용 에러 응답 작성 테스트")
+class ErrorResponseWriterTest {
+
+    @Test
+    @DisplayName("ErrorCode의 상태 코드와 Retry-After를 쓰고, 본문은 GlobalExceptionHandler와 같은 JSON 형식이다.")
+    void writesStatusRetryAfterAndJsonBody() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServiceUnavailableException e = new ServiceUnavailableException(ErrorCode.LOGIN_ATTEMPTS_EXCEEDED, Duration.ofMillis(2_500));
+
+        // When
+        ErrorResponseWriter.writeRetryLater(response, e);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        JsonNode body = new ObjectMapper().readTree(response.getContentAsString());
+        assertThat(body.get("status").asInt()).isEqualTo(429);
+        assertThat(body.get("message").asText()).isEqualTo(ErrorCode.LOGIN_ATTEMPTS_EXCEEDED.getMessage());
+    }
+}
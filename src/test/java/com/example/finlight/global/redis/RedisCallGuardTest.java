@@ -0,0 +1,154 @@
+package com.example.finlight.global.redis;
+
+import com.example.finlight.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Redis 호출 보호(서킷 브레이커, 동시 호출 제한) 테스트")
+class RedisCallGuardTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisCallGuard guard = new RedisCallGuard(1, 2, Duration.ofSeconds(10), meterRegistry, now::get);
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 OPEN 되어 Redis를 호출하지 않고 바로 503으로 거절한다.")
+    void opensAfterConsecutiveFailures() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        Runnable timeout = () -> {
+            calls.incrementAndGet();
+            throw new QueryTimeoutException("Redis command timed out");
+        };
+
+        // When
+        assertThatThrownBy(() -> guard.run(timeout))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 1L);   // 서킷을 열지 않은 실패는 짧게
+        assertThatThrownBy(() -> guard.run(timeout))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 10L);   // 이번 실패로 OPEN -> OPEN 시간만큼
+        now.addAndGet(3_000);
+
+        // Then
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.OPEN);
+        assertThatThrownBy(() -> guard.run(timeout))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 7L);   // 남은 OPEN 시간
+        assertThat(calls.get()).isEqualTo(2);   // OPEN 상태에서는 호출 자체를 하지 않음
+        assertThat(meterRegistry.get("auth.refresh.store.circuit.state").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 시험 호출 한 번으로 회복 여부를 판단한다.")
+    void halfOpenTrialClosesOnSuccess() {
+        // Given
+        Runnable timeout = () -> {
+            throw new QueryTimeoutException("Redis command timed out");
+        };
+        assertThatThrownBy(() -> guard.run(timeout)).isInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> guard.run(timeout)).isInstanceOf(ServiceUnavailableException.class);
+
+        // When: 시험 호출 실패 -> 다시 OPEN
+        now.addAndGet(10_000);
+        assertThatThrownBy(() -> guard.run(timeout)).isInstanceOf(ServiceUnavailableException.class);
+
+        // Then
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.OPEN);
+
+        // When: 다음 시험 호출 성공 -> CLOSED
+        now.addAndGet(10_000);
+        String result = guard.call(() -> "OK");
+
+        // Then
+        assertThat(result).isEqualTo("OK");
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 전에 들어간 느린 호출이 늦게 성공해도 OPEN을 닫지 않고, 시험 호출 중에는 다른 요청에 짧은 Retry-After를 준다.")
+    void staleSuccessDoesNotCloseOpenCircuit() throws Exception {
+        // Given: CLOSED일 때 들어간 느린 호출
+        RedisCallGuard wide = new RedisCallGuard("test.guard", 3, 2, Duration.ofSeconds(10), meterRegistry, now::get);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slow = new Thread(() -> wide.run(() -> await(entered, release)));
+        slow.start();
+        entered.await();
+
+        Runnable timeout = () -> {
+            throw new QueryTimeoutException("Redis command timed out");
+        };
+        assertThatThrownBy(() -> wide.run(timeout)).isInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> wide.run(timeout)).isInstanceOf(ServiceUnavailableException.class);
+
+        // When: 느린 호출이 OPEN 이후에 성공
+        release.countDown();
+        slow.join();
+
+        // Then
+        assertThat(wide.state()).isEqualTo(RedisCallGuard.State.OPEN);
+
+        // When: OPEN 시간이 지나 시험 호출이 진행 중일 때 다른 요청
+        now.addAndGet(10_000);
+        CountDownLatch trialEntered = new CountDownLatch(1);
+        CountDownLatch trialRelease = new CountDownLatch(1);
+        Thread trial = new Thread(() -> wide.run(() -> await(trialEntered, trialRelease)));
+        trial.start();
+        trialEntered.await();
+
+        // Then
+        assertThatThrownBy(() -> wide.call(() -> "OK"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasFieldOrPropertyWithValue("retryAfterSeconds", 1L);
+        trialRelease.countDown();
+        trial.join();
+        assertThat(wide.state()).isEqualTo(RedisCallGuard.State.CLOSED);   // 시험 호출 성공으로만 닫힘
+    }
+
+    @Test
+    @DisplayName("동시 호출 수 상한을 넘는 요청은 기다리지 않고 바로 거절한다.")
+    void rejectsWhenSaturated() throws Exception {
+        // Given: 상한 1개를 다른 스레드가 점유
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> guard.run(() -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        entered.await();
+
+        // When & Then
+        assertThatThrownBy(() -> guard.call(() -> "OK")).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("auth.refresh.store.rejected").tag("reason", "saturated").counter().count()).isEqualTo(1.0);
+        assertThat(guard.state()).isEqualTo(RedisCallGuard.State.CLOSED);   // 포화는 장애로 세지 않음
+
+        release.countDown();
+        holder.join();
+        assertThat(guard.call(() -> "OK")).isEqualTo("OK");
+    }
+
+    private static void await(CountDownLatch entered, CountDownLatch release) {
+        entered.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
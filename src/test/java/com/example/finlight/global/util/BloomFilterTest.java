@@ -0,0 +1,48 @@
+package com.example.finlight.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bloom filter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있다고 답한다 (거짓 음성 없음).")
+    void noFalseNegatives() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("local_user" + i + "@example.com");
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("local_user" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값을 있다고 답하는 비율이 목표 비율 근처로 유지된다.")
+    void falsePositiveRateIsBounded() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("닉네임" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("새닉네임" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then: 목표 1%, 여유를 두고 2% 미만
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
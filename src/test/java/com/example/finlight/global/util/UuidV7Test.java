@@ -0,0 +1,40 @@
+package com.example.finlight.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("시간 순 UUID(v7) 테스트")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("버전 7, RFC variant이고 생성 시각(ms)을 담는다.")
+    void layout() {
+        // When
+        UUID id = UuidV7.next();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestamp(id)).isCloseTo(System.currentTimeMillis(), within(1_000L));   // 같은 ms 카운터가 넘치면 몇 ms 앞설 수 있음
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서도, 시계가 뒤로 가도 항상 증가한다.")
+    void monotonic() {
+        // Given
+        long now = System.currentTimeMillis();
+        UUID previous = UuidV7.next(now);
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = UuidV7.next(i % 2 == 0 ? now : now - 1_000);   // 같은 ms + 시계 역행
+            assertThat(current.getMostSignificantBits()).isGreaterThan(previous.getMostSignificantBits());
+            previous = current;
+        }
+    }
+}